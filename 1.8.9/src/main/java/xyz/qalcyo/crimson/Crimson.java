@@ -43,6 +43,7 @@ import xyz.qalcyo.crimson.integration.mods.ModIntegration;
 import xyz.qalcyo.crimson.networking.packets.cosmetics.CosmeticRetrievePacket;
 import xyz.qalcyo.crimson.notifications.Notifications;
 import xyz.qalcyo.crimson.rendering.EnhancedFontRenderer;
+import xyz.qalcyo.crimson.rendering.ProfilerOverlay;
 import xyz.qalcyo.crimson.util.*;
 
 /**
@@ -64,6 +65,7 @@ public class Crimson implements CrimsonAPI {
     private FileManager fileManager;
     private ConfigManager configManager;
     private Notifications notifications;
+    private ProfilerOverlay profilerOverlay;
     private CrimsonClientSocket crimsonSocket;
     private ModIntegration modIntegration;
     private CommandRegistry commandRegistry;
@@ -97,6 +99,7 @@ public class Crimson implements CrimsonAPI {
         fileManager = new FileManager(this);
         configManager = new ConfigManager(fileManager.getCrimsonConfigDirectory(fileManager.getCrimsonDirectory(fileManager.getQalcyoDirectory(Launch.minecraftHome))));
         notifications = new Notifications(this);
+        profilerOverlay = new ProfilerOverlay(this);
         crimsonSocket = new CrimsonClientSocket(this);
         if (configManager.getOnboarding().isTos())
             crimsonSocket.awaitConnect();
@@ -129,6 +132,7 @@ public class Crimson implements CrimsonAPI {
         });
 
         getKeyBindRegistry().register(KeyBinds.from("Open menu", "Crimson", Keyboard.KEY_HOME, (Runnable) this::openCrimsonMenu));
+        getKeyBindRegistry().register(KeyBinds.from("Toggle profiler", "Crimson", Keyboard.KEY_NONE, (Runnable) getRenderProfiler()::toggle));
 
         getMetadata().setConfigurationMenu(CrimsonMenu.class);
         initialized = true;
@@ -155,6 +159,10 @@ public class Crimson implements CrimsonAPI {
         return notifications;
     }
 
+    public ProfilerOverlay getProfilerOverlay() {
+        return profilerOverlay;
+    }
+
     public CrimsonClientSocket getCrimsonSocket() {
         return crimsonSocket;
     }
@@ -68,6 +68,10 @@ public class InternalEventListener implements IEventListener {
 
     @SubscribeEvent
     public void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            crimson.getAnimationScheduler().tick();
+        }
+
         crimson.getInternalEventManager().handleRenderTick(event.renderTickTime);
     }
 
@@ -28,19 +28,21 @@ import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import xyz.qalcyo.mango.Lists;
-import xyz.qalcyo.mango.Maps;
 import xyz.qalcyo.crimson.Crimson;
 import xyz.qalcyo.crimson.cosmetics.impl.CloakCosmetic;
 import xyz.qalcyo.crimson.networking.packets.cosmetics.CosmeticRetrievePacket;
 
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CosmeticManager {
 
     private final List<BaseCosmetic> cosmetics = Lists.newCopyOnWriteArrayList();
     private final List<String> checkCache = Lists.newCopyOnWriteArrayList();
-    private final Map<String, PlayerCosmeticHolder> playerData = Maps.newHashMap();
+    /* Written from the socket's thread and read while rendering, holders are replaced rather than changed. */
+    private final Map<UUID, PlayerCosmeticHolder> playerData = new ConcurrentHashMap<>();
 
     public void start() {
         MinecraftForge.EVENT_BUS.register(this);
@@ -127,8 +129,21 @@ public class CosmeticManager {
         check(Crimson.getInstance().getBridge().getMinecraftBridge().getPlayerUuid().toString());
     }
 
-    public Map<String, PlayerCosmeticHolder> getPlayerData() {
+    public Map<UUID, PlayerCosmeticHolder> getPlayerData() {
         return playerData;
     }
 
+    public void setPlayerData(PlayerCosmeticHolder holder) {
+        playerData.put(holder.getUuid(), holder);
+    }
+
+    /**
+     * @return The player's cosmetics, or null if they have none or shouldn't be shown.
+     */
+    public PlayerCosmeticHolder getShownCosmetics(UUID uuid) {
+        if (!Crimson.getInstance().getConfigManager().getCosmetic().isShowOwnCosmetics() && uuid.equals(Crimson.getInstance().getBridge().getMinecraftBridge().getPlayerUuid()))
+            return null;
+        return playerData.get(uuid);
+    }
+
 }
\ No newline at end of file
@@ -18,13 +18,12 @@
 
 package xyz.qalcyo.crimson.cosmetics;
 
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.AbstractClientPlayer;
 import net.minecraft.client.renderer.entity.layers.LayerRenderer;
 import xyz.qalcyo.crimson.Crimson;
+import xyz.qalcyo.crimson.core.rendering.RenderProfiler;
 
 import java.util.List;
-import java.util.Objects;
 
 public class CosmeticRenderer implements LayerRenderer<AbstractClientPlayer> {
 
@@ -35,17 +34,23 @@ public class CosmeticRenderer implements LayerRenderer<AbstractClientPlayer> {
     }
 
     public void doRenderLayer(AbstractClientPlayer player, float limbSwing, float limbSwingAmount, float partialTicks, float tickAge, float netHeadYaw, float netHeadPitch, float scale) {
-        String uuid = player.getUniqueID().toString();
-        if (!Crimson.getInstance().getConfigManager().getCosmetic().isShowOwnCosmetics() && Objects.equals(uuid, Minecraft.getMinecraft().getSession().getProfile().getId().toString()))
+        RenderProfiler profiler = Crimson.getInstance().getRenderProfiler();
+        profiler.begin(RenderProfiler.Section.COSMETICS);
+        try {
+            renderCosmetics(player, limbSwing, limbSwingAmount, partialTicks, tickAge, netHeadYaw, netHeadPitch, scale);
+        } finally {
+            profiler.end(RenderProfiler.Section.COSMETICS);
+        }
+    }
+
+    private void renderCosmetics(AbstractClientPlayer player, float limbSwing, float limbSwingAmount, float partialTicks, float tickAge, float netHeadYaw, float netHeadPitch, float scale) {
+        PlayerCosmeticHolder cosmeticHolder = cosmeticManager.getShownCosmetics(player.getUniqueID());
+        if (cosmeticHolder == null)
             return;
-        if (cosmeticManager.getPlayerData().containsKey(uuid)) {
-            PlayerCosmeticHolder cosmeticHolder = cosmeticManager.getPlayerData().get(uuid);
-            if (cosmeticHolder != null && cosmeticHolder.getEnabled() != null && !cosmeticHolder.getEnabled().isEmpty()) {
-                List<BaseCosmetic> enabled = cosmeticHolder.getEnabled();
-                for (BaseCosmetic cosmetic : enabled) {
-                    cosmetic.render(player, limbSwing, limbSwingAmount, partialTicks, tickAge, netHeadYaw, netHeadPitch, scale);
-                }
-            }
+
+        List<BaseCosmetic> enabled = cosmeticHolder.getEnabled();
+        for (int i = 0; i < enabled.size(); i++) {
+            enabled.get(i).render(player, limbSwing, limbSwingAmount, partialTicks, tickAge, netHeadYaw, netHeadPitch, scale);
         }
     }
 
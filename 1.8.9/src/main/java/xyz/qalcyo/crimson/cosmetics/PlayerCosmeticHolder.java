@@ -18,22 +18,39 @@
 
 package xyz.qalcyo.crimson.cosmetics;
 
-import xyz.qalcyo.mango.Lists;
+import xyz.qalcyo.crimson.cosmetics.impl.CloakCosmetic;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * An immutable snapshot of a player's cosmetics, replaced as a whole when new data is received.
+ */
 public class PlayerCosmeticHolder {
 
-    private final String uuid;
-    private List<BaseCosmetic> owned = Lists.newArrayList(), enabled = Lists.newArrayList();
+    private final UUID uuid;
+    private final List<BaseCosmetic> owned, enabled;
+    private final boolean cloak;
 
-    public PlayerCosmeticHolder(String uuid, List<BaseCosmetic> owned, List<BaseCosmetic> enabled) {
+    public PlayerCosmeticHolder(UUID uuid, List<BaseCosmetic> owned, List<BaseCosmetic> enabled) {
         this.uuid = uuid;
-        this.owned.addAll(owned);
-        this.enabled.addAll(enabled);
+        this.owned = Collections.unmodifiableList(new ArrayList<>(owned));
+        this.enabled = Collections.unmodifiableList(new ArrayList<>(enabled));
+
+        boolean cloak = false;
+        for (BaseCosmetic cosmetic : this.enabled) {
+            if (cosmetic instanceof CloakCosmetic) {
+                cloak = true;
+                break;
+            }
+        }
+
+        this.cloak = cloak;
     }
 
-    public String getUuid() {
+    public UUID getUuid() {
         return uuid;
     }
 
@@ -41,24 +58,15 @@ public class PlayerCosmeticHolder {
         return owned;
     }
 
-    public void setOwned(List<BaseCosmetic> owned) {
-        this.owned = owned;
-    }
-
-    public void addOwned(BaseCosmetic cosmetic) {
-        owned.add(cosmetic);
-    }
-
     public List<BaseCosmetic> getEnabled() {
         return enabled;
     }
 
-    public void setEnabled(List<BaseCosmetic> enabled) {
-        this.enabled = enabled;
-    }
-
-    public void addEnabled(BaseCosmetic cosmetic) {
-        enabled.add(cosmetic);
+    /**
+     * @return Whether the player has a cloak enabled, which replaces their vanilla cape.
+     */
+    public boolean hasCloak() {
+        return cloak;
     }
 
-}
\ No newline at end of file
+}
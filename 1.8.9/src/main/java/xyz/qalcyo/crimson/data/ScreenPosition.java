@@ -18,10 +18,9 @@
 
 package xyz.qalcyo.crimson.data;
 
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.gui.ScaledResolution;
 import xyz.qalcyo.crimson.Crimson;
 import xyz.qalcyo.crimson.core.data.IScreenPosition;
+import xyz.qalcyo.crimson.core.util.IPositionHelper;
 
 public class ScreenPosition implements IScreenPosition {
 
@@ -33,24 +32,20 @@ public class ScreenPosition implements IScreenPosition {
     }
 
     public float getX() {
-        ScaledResolution resolution = new ScaledResolution(Minecraft.getMinecraft());
-        return resolution.getScaledWidth() * x;
+        return Crimson.getInstance().getPositionHelper().getScaledWidth() * x;
     }
 
     public ScreenPosition setX(float x) {
-        ScaledResolution resolution = new ScaledResolution(Minecraft.getMinecraft());
-        this.x = Crimson.getInstance().getMathHelper().percentageOf(x, 0, resolution.getScaledWidth());
+        this.x = Crimson.getInstance().getMathHelper().percentageOf(x, 0, Crimson.getInstance().getPositionHelper().getScaledWidth());
         return this;
     }
 
     public float getY() {
-        ScaledResolution resolution = new ScaledResolution(Minecraft.getMinecraft());
-        return resolution.getScaledHeight() * y;
+        return Crimson.getInstance().getPositionHelper().getScaledHeight() * y;
     }
 
     public ScreenPosition setY(float y) {
-        ScaledResolution resolution = new ScaledResolution(Minecraft.getMinecraft());
-        this.y = Crimson.getInstance().getMathHelper().percentageOf(0, y, resolution.getScaledHeight());
+        this.y = Crimson.getInstance().getMathHelper().percentageOf(0, y, Crimson.getInstance().getPositionHelper().getScaledHeight());
         return this;
     }
 
@@ -65,8 +60,8 @@ public class ScreenPosition implements IScreenPosition {
     }
 
     public static ScreenPosition fromRaw(float x, float y) {
-        ScaledResolution resolution = new ScaledResolution(Minecraft.getMinecraft());
-        return new ScreenPosition(Crimson.getInstance().getMathHelper().percentageOf(x, 0, resolution.getScaledWidth()), Crimson.getInstance().getMathHelper().percentageOf(y, 0, resolution.getScaledHeight()));
+        IPositionHelper positionHelper = Crimson.getInstance().getPositionHelper();
+        return new ScreenPosition(Crimson.getInstance().getMathHelper().percentageOf(x, 0, positionHelper.getScaledWidth()), Crimson.getInstance().getMathHelper().percentageOf(y, 0, positionHelper.getScaledHeight()));
     }
 
     public static ScreenPosition fromScaled(float x, float y) {
@@ -38,6 +38,7 @@ import xyz.qalcyo.crimson.core.events.initialization.InitializationEvent;
 import xyz.qalcyo.crimson.core.events.initialization.PostInitializationEvent;
 import xyz.qalcyo.crimson.core.events.initialization.PreInitializationEvent;
 import xyz.qalcyo.crimson.core.networking.packets.game.CrashPacket;
+import xyz.qalcyo.crimson.util.PositionHelper;
 
 import java.io.File;
 
@@ -74,6 +75,14 @@ public class MinecraftMixin {
         }
     }
 
+    @Inject(method = "resize", at = @At("TAIL"))
+    private void onResized(int width, int height, CallbackInfo ci) {
+        PositionHelper positionHelper = Crimson.getInstance().getPositionHelper();
+        if (positionHelper != null) {
+            positionHelper.update();
+        }
+    }
+
     @Inject(method = "displayCrashReport", at = @At("HEAD"))
     private void onCrashReportDisplayed(CrashReport crashReport, CallbackInfo ci) {
         Crimson instance = Crimson.getInstance();
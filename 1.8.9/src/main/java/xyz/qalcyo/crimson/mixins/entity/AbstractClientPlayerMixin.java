@@ -18,7 +18,6 @@
 
 package xyz.qalcyo.crimson.mixins.entity;
 
-import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.AbstractClientPlayer;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.ResourceLocation;
@@ -27,31 +26,16 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import xyz.qalcyo.crimson.Crimson;
-import xyz.qalcyo.crimson.cosmetics.BaseCosmetic;
 import xyz.qalcyo.crimson.cosmetics.PlayerCosmeticHolder;
-import xyz.qalcyo.crimson.cosmetics.impl.CloakCosmetic;
-
-import java.util.List;
-import java.util.Objects;
 
 @Mixin({AbstractClientPlayer.class})
 public class AbstractClientPlayerMixin {
 
     @Inject(method = "getLocationCape", at = @At("HEAD"), cancellable = true)
     private void modifyLocationCape(CallbackInfoReturnable<ResourceLocation> cir) {
-        String uuid = ((Entity) (Object) this).getUniqueID().toString();
-        if (!Crimson.getInstance().getConfigManager().getCosmetic().isShowOwnCosmetics() && Objects.equals(uuid, Minecraft.getMinecraft().getSession().getProfile().getId().toString()))
-            return;
-        if (Crimson.getInstance().getCosmeticManager().getPlayerData().containsKey(uuid)) {
-            PlayerCosmeticHolder cosmeticHolder = Crimson.getInstance().getCosmeticManager().getPlayerData().get(uuid);
-            if (cosmeticHolder != null && cosmeticHolder.getEnabled() != null && !cosmeticHolder.getEnabled().isEmpty()) {
-                List<BaseCosmetic> enabled = cosmeticHolder.getEnabled();
-                for (BaseCosmetic cosmetic : enabled) {
-                    if (cosmetic instanceof CloakCosmetic) {
-                        cir.setReturnValue(null);
-                    }
-                }
-            }
+        PlayerCosmeticHolder cosmeticHolder = Crimson.getInstance().getCosmeticManager().getShownCosmetics(((Entity) (Object) this).getUniqueID());
+        if (cosmeticHolder != null && cosmeticHolder.hasCloak()) {
+            cir.setReturnValue(null);
         }
     }
 
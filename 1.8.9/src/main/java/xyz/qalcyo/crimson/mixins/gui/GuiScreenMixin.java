@@ -27,6 +27,7 @@ import org.spongepowered.asm.mixin.injection.ModifyArg;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import xyz.qalcyo.mango.collections.Pair;
 import xyz.qalcyo.crimson.Crimson;
+import xyz.qalcyo.crimson.core.transformers.hooks.GuiMixinHook;
 
 @Mixin({GuiScreen.class})
 public class GuiScreenMixin {
@@ -48,4 +49,9 @@ public class GuiScreenMixin {
         return newSentMessage;
     }
 
+    @Inject(method = "onGuiClosed", at = @At("HEAD"))
+    private void onGuiClosed(CallbackInfo ci) {
+        GuiMixinHook.close(this);
+    }
+
 }
\ No newline at end of file
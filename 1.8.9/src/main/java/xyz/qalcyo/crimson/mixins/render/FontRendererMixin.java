@@ -19,74 +19,105 @@
 package xyz.qalcyo.crimson.mixins.render;
 
 import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.resources.IResourceManager;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import xyz.qalcyo.crimson.Crimson;
 import xyz.qalcyo.crimson.core.events.FontRendererEvent;
-import xyz.qalcyo.eventbus.QalcyoEventBus;
+import xyz.qalcyo.crimson.core.events.CrimsonEventBus;
+import xyz.qalcyo.crimson.rendering.EnhancedFontRenderer;
 
 @Mixin({FontRenderer.class})
 public class FontRendererMixin {
 
+    @Unique
+    private String drawStringText;
     @Unique
     private FontRendererEvent.RenderStringEvent drawStringEvent;
     @Unique
+    private String widthGottenText;
+    @Unique
     private FontRendererEvent.WidthGottenEvent widthGottenEvent;
 
     @Inject(method = "renderString", at = @At("HEAD"))
     private void onStringRendered(String text, float x, float y, int colour, boolean dropShadow, CallbackInfoReturnable<Integer> cir) {
-        Crimson crimson = Crimson.getInstance();
-        if (crimson != null) {
-            QalcyoEventBus crimsonEventBus = crimson.getEventBus();
-            if (crimsonEventBus != null) {
-                crimsonEventBus.post(drawStringEvent = new FontRendererEvent.RenderStringEvent(text, x, y, colour, dropShadow));
-            }
-        }
+        drawStringEvent = null;
+        drawStringText = Crimson.getInstance().getTextTransformers().apply(text);
+        CrimsonEventBus crimsonEventBus = Crimson.getInstance().getCrimsonEventBus();
+        if (crimsonEventBus == null || !crimsonEventBus.hasSubscribers(FontRendererEvent.RenderStringEvent.class))
+            return;
+
+        crimsonEventBus.post(drawStringEvent = new FontRendererEvent.RenderStringEvent(drawStringText, x, y, colour, dropShadow));
     }
 
     @ModifyVariable(method = "renderString", at = @At("HEAD"), argsOnly = true, ordinal = 0)
     private String onStringRendered_modifyText(String original) {
-        return drawStringEvent.string;
+        return drawStringEvent == null ? drawStringText : drawStringEvent.string;
     }
 
     @ModifyVariable(method = "renderString", at = @At("HEAD"), argsOnly = true, ordinal = 0)
     private float onStringRendered_modifyX(float original) {
-        return drawStringEvent.x;
+        return drawStringEvent == null ? original : drawStringEvent.x;
     }
 
     @ModifyVariable(method = "renderString", at = @At("HEAD"), argsOnly = true, ordinal = 1)
     private float onStringRendered_modifyY(float original) {
-        return drawStringEvent.y;
+        return drawStringEvent == null ? original : drawStringEvent.y;
     }
 
     @ModifyVariable(method = "renderString", at = @At("HEAD"), argsOnly = true, ordinal = 0)
     private int onStringRendered_modifyColor(int original) {
-        return drawStringEvent.colour;
+        return drawStringEvent == null ? original : drawStringEvent.colour;
     }
 
     @ModifyVariable(method = "renderString", at = @At("HEAD"), argsOnly = true, ordinal = 0)
     private boolean onStringRendered_modifyDropShadow(boolean original) {
-        return drawStringEvent.dropShadow;
+        return drawStringEvent == null ? original : drawStringEvent.dropShadow;
     }
 
     @Inject(method = "getStringWidth", at = @At("HEAD"))
     private void onStringWidthGotten(String text, CallbackInfoReturnable<Integer> cir) {
-        Crimson crimson = Crimson.getInstance();
-        if (crimson != null) {
-            QalcyoEventBus crimsonEventBus = crimson.getEventBus();
-            if (crimsonEventBus != null) {
-                crimsonEventBus.post(widthGottenEvent = new FontRendererEvent.WidthGottenEvent(text));
-            }
-        }
+        widthGottenEvent = null;
+        widthGottenText = Crimson.getInstance().getTextTransformers().apply(text);
+        CrimsonEventBus crimsonEventBus = Crimson.getInstance().getCrimsonEventBus();
+        if (crimsonEventBus == null || !crimsonEventBus.hasSubscribers(FontRendererEvent.WidthGottenEvent.class))
+            return;
+
+        crimsonEventBus.post(widthGottenEvent = new FontRendererEvent.WidthGottenEvent(widthGottenText));
     }
 
     @ModifyVariable(method = "getStringWidth", at = @At("HEAD"), argsOnly = true, ordinal = 0)
     private String onStringWidthGotten_modifyText(String original) {
-        return widthGottenEvent.string;
+        return widthGottenEvent == null ? widthGottenText : widthGottenEvent.string;
+    }
+
+    /* Every glyph is drawn with it's own glBegin/glEnd pair. */
+    @Inject(method = "renderChar", at = @At("HEAD"))
+    private void onCharRendered(char c, boolean italic, CallbackInfoReturnable<Float> cir) {
+        Crimson.getInstance().getRenderProfiler().countDrawCall();
+    }
+
+    @Inject(method = "onResourceManagerReload", at = @At("TAIL"))
+    private void onResourceManagerReloaded(IResourceManager resourceManager, CallbackInfo ci) {
+        invalidateCaches();
+    }
+
+    @Inject(method = "setUnicodeFlag", at = @At("TAIL"))
+    private void onUnicodeFlagSet(boolean unicodeFlag, CallbackInfo ci) {
+        invalidateCaches();
+    }
+
+    @Unique
+    private void invalidateCaches() {
+        EnhancedFontRenderer enhancedFontRenderer = Crimson.getInstance().getEnhancedFontRenderer();
+        if (enhancedFontRenderer != null) {
+            enhancedFontRenderer.invalidateCaches();
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -29,6 +29,7 @@ import xyz.qalcyo.crimson.cosmetics.BaseCosmetic;
 import xyz.qalcyo.crimson.cosmetics.PlayerCosmeticHolder;
 
 import java.util.List;
+import java.util.UUID;
 
 public class CosmeticRetrievePacket extends BasePacket {
 
@@ -58,8 +59,14 @@ public class CosmeticRetrievePacket extends BasePacket {
                 List<BaseCosmetic> owned = processCosmeticArray(ownedArray);
                 List<BaseCosmetic> enabled = processCosmeticArray(enabledArray);
 
-                String uuid = data.getAsString("uuid");
-                Crimson.getInstance().getCosmeticManager().getPlayerData().put(uuid, new PlayerCosmeticHolder(uuid, owned, enabled));
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(data.getAsString("uuid"));
+                } catch (IllegalArgumentException e) {
+                    return;
+                }
+
+                Crimson.getInstance().getCosmeticManager().setPlayerData(new PlayerCosmeticHolder(uuid, owned, enabled));
             }
         }
     }
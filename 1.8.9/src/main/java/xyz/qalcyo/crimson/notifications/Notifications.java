@@ -18,27 +18,49 @@
 
 package xyz.qalcyo.crimson.notifications;
 
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.gui.ScaledResolution;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import xyz.qalcyo.crimson.Crimson;
-import xyz.qalcyo.crimson.core.data.ColourRGB;
+import xyz.qalcyo.crimson.core.animation.AnimationScheduler;
+import xyz.qalcyo.crimson.core.animation.EasingType;
+import xyz.qalcyo.crimson.core.data.PackedColour;
 import xyz.qalcyo.crimson.core.notifications.INotifications;
 import xyz.qalcyo.crimson.core.notifications.Notification;
 import xyz.qalcyo.crimson.core.notifications.NotificationColour;
+import xyz.qalcyo.crimson.core.rendering.IBatch2D;
+import xyz.qalcyo.crimson.core.rendering.RenderProfiler;
+import xyz.qalcyo.crimson.core.rendering.TextLayout;
 import xyz.qalcyo.crimson.core.util.ChatColour;
+import xyz.qalcyo.crimson.rendering.Batch2D;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
 
 public class Notifications implements INotifications {
 
-    private final List<Notification> notifications = new CopyOnWriteArrayList<>();
+    private static final int TEXT_COLOUR = PackedColour.argb(255, 255, 255, 200);
+    private static final long SLIDE_DURATION = 400;
+    /* How fast the notification's time passes per second, the old per-frame speed at 60 FPS. */
+    private static final float TIME_SPEED = 1.8f;
+
+    /* How many notifications can wait for a free slot, the oldest are dropped past this. */
+    private static final int MAX_PENDING = 32;
+
+    /* Pushes can come from any thread, the active and pending notifications only change under this lock. */
+    private final Object lock = new Object();
+    /* Waiting notifications never hold a slide tween, it's released before one is moved back here. */
+    private final ArrayDeque<Notification> pending = new ArrayDeque<>();
+    private Notification[] active = new Notification[3];
+    private int activeCount;
+    /* Applied by the render thread, which owns the shown notifications' tweens. */
+    private int visibleLimit = active.length;
 
     private final Crimson crimson;
+    private final IBatch2D batch = new Batch2D();
 
     public Notifications(Crimson crimson) {
         this.crimson = crimson;
@@ -46,39 +68,165 @@ public class Notifications implements INotifications {
     }
 
     public void push(Notification notification) {
-        notifications.add(notification);
+        synchronized (lock) {
+            if (!coalesce(notification)) {
+                enqueue(notification);
+            }
+        }
+    }
+
+    public void setVisibleLimit(int limit) {
+        if (limit < 1)
+            throw new IllegalArgumentException("At least one notification must be visible.");
+
+        synchronized (lock) {
+            visibleLimit = limit;
+        }
+    }
+
+    public int getVisibleLimit() {
+        synchronized (lock) {
+            return visibleLimit;
+        }
+    }
+
+    /**
+     * Resizes the shown notifications to the visible limit, must be called from the render thread while holding the lock.
+     */
+    private void applyVisibleLimit(AnimationScheduler animations) {
+        if (visibleLimit == active.length)
+            return;
+
+        /* Notifications which no longer fit go back to the front of the queue, and slide in again once they're shown. */
+        for (int i = activeCount - 1; i >= visibleLimit; i--) {
+            Notification notification = active[i];
+            if (notification.data.slideAnimation != -1) {
+                animations.release(notification.data.slideAnimation);
+                notification.data.slideAnimation = -1;
+            }
+
+            pending.addFirst(notification);
+            if (pending.size() > MAX_PENDING) {
+                /* The demoted notifications have already been seen, so they're kept over the waiting ones. */
+                pending.pollLast();
+            }
+
+            active[i] = null;
+        }
+
+        activeCount = Math.min(activeCount, visibleLimit);
+        active = Arrays.copyOf(active, visibleLimit);
+    }
+
+    /**
+     * Merges the notification into a shown or waiting one with the same source and title, if there is one.
+     * Shown notifications are drawn outside of the lock, so they only receive the update here, which is applied by {@link #applyUpdate(Notification)}.
+     */
+    private boolean coalesce(Notification notification) {
+        if (notification.source == null)
+            return false;
+
+        for (int i = 0; i < activeCount; i++) {
+            Notification existing = active[i];
+            if (isDuplicate(existing, notification)) {
+                existing.data.update = notification;
+                return true;
+            }
+        }
+
+        return coalescePending(notification);
+    }
+
+    private boolean coalescePending(Notification notification) {
+        Iterator<Notification> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            Notification existing = iterator.next();
+            if (isDuplicate(existing, notification)) {
+                existing.description = notification.description;
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isDuplicate(Notification existing, Notification notification) {
+        return existing.source.equals(notification.source) && Objects.equals(existing.title, notification.title);
+    }
+
+    /**
+     * Applies an update merged into a shown notification, must be called from the render thread while holding the lock.
+     */
+    private void applyUpdate(Notification notification) {
+        Notification update = notification.data.update;
+        if (update == null)
+            return;
+
+        notification.data.update = null;
+        if (notification.data.closing) {
+            /* Too late to keep it open, the update is shown on it's own instead. */
+            if (!coalescePending(update)) {
+                enqueue(update);
+            }
+
+            return;
+        }
+
+        /* Restarts most of it's duration, while keeping the text visible. */
+        notification.description = update.description;
+        notification.data.time = Math.min(notification.data.time, 0.5f);
+    }
+
+    private void enqueue(Notification notification) {
+        if (pending.size() >= MAX_PENDING) {
+            pending.pollFirst();
+        }
+
+        pending.addLast(notification);
     }
 
     public void render(float ticks) {
-        ScaledResolution scaledResolution = new ScaledResolution(Minecraft.getMinecraft());
-        int scaledWidth = scaledResolution.getScaledWidth();
-        int scaledHeight = scaledResolution.getScaledHeight();
+        AnimationScheduler animations = crimson.getAnimationScheduler();
+        Notification[] active;
+        int activeCount;
+        synchronized (lock) {
+            applyVisibleLimit(animations);
+            for (int i = 0; i < this.activeCount; i++) {
+                applyUpdate(this.active[i]);
+            }
 
-        float y = 5;
-        for (Notification notification : notifications) {
-            if (notifications.indexOf(notification) > 2) {
-                continue;
+            while (this.activeCount < this.active.length && !pending.isEmpty()) {
+                this.active[this.activeCount++] = pending.pollFirst();
             }
 
-            if (notification.data.x < 1) {
-                notification.data.x = scaledWidth;
+            active = this.active;
+            activeCount = this.activeCount;
+        }
+
+        float delta = animations.getFrameDelta();
+        int scaledWidth = crimson.getPositionHelper().getScaledWidth();
+        float y = 5;
+        boolean finished = false;
+        for (int index = 0; index < activeCount; index++) {
+            Notification notification = active[index];
+            if (notification.data.slideAnimation == -1) {
+                notification.data.slideAnimation = animations.create(0);
+                animations.animate(notification.data.slideAnimation, 1, SLIDE_DURATION, EasingType.OUT_CUBIC);
             }
 
             int duration = (notification.duration == -1 ? 4 : notification.duration);
 
             /* Text. */
-            String title = ChatColour.BOLD + notification.title;
             float width = 225;
-            List<String> wrappedTitle = crimson.getEnhancedFontRenderer().wrapTextLines(title, (int) (width - 10), " ");
-            List<String> wrappedDescription = crimson.getEnhancedFontRenderer().wrapTextLines(notification.description, (int) (width - 10), " ");
-            int textLines = wrappedTitle.size() + wrappedDescription.size();
+            TextLayout titleLayout = notification.data.titleLayout = layoutTitle(notification.data.titleLayout, notification.title, (int) (width - 10));
+            TextLayout descriptionLayout = notification.data.descriptionLayout = layout(notification.data.descriptionLayout, notification.description, (int) (width - 10));
 
             /* Size and positon. */
-            float height = 18 + (textLines * Minecraft.getMinecraft().fontRendererObj.FONT_HEIGHT);
-            float x = notification.data.x = crimson.getMathHelper().lerp(notification.data.x, scaledWidth - width - 5, ticks / 4);
-            if (notification.data.closing && notification.data.time < 0.75f) {
-                x = notification.data.x = crimson.getMathHelper().lerp(notification.data.x, scaledWidth + width, ticks / 4);
+            float height = 18 + titleLayout.getHeight() + descriptionLayout.getHeight();
+            if (notification.data.closing && notification.data.time < 0.75f && animations.getTarget(notification.data.slideAnimation) != 0) {
+                animations.animate(notification.data.slideAnimation, 0, SLIDE_DURATION, EasingType.IN_CUBIC);
             }
+            float x = notification.data.x = (float) (scaledWidth - animations.get(notification.data.slideAnimation) * (width + 5));
 
             /* Mouse handling. */
             float mouseX = (float) crimson.getMouseHelper().getMouseX();
@@ -96,24 +244,16 @@ public class Notifications implements INotifications {
                 notification.colour = NotificationColour.DEFAULT;
             }
 
-            ColourRGB backgroundColour = notification.colour.background.setA_builder(200);
-            crimson.getRenderHelper().drawRectEnhanced((int) x, (int) y, (int) width, (int) height, backgroundColour.getRGBA());
-            ColourRGB foregroundColour = notification.colour.foreground.setA_builder(200);
-            crimson.getRenderHelper().drawHollowRect((int) x + 4, (int) y + 4, (int) width - 8, (int) height - 8, 1, foregroundColour.getRGBA());
+            /* The colours may be shared, like the palette's, so their alpha is only overridden when packing them. */
+            crimson.getRenderHelper().drawRectEnhanced(batch, (int) x, (int) y, (int) width, (int) height, notification.colour.background.getRGBA(200));
+            crimson.getRenderHelper().drawHollowRect(batch, (int) x + 4, (int) y + 4, (int) width - 8, (int) height - 8, 1, notification.colour.foreground.getRGBA(200));
+            batch.flush();
 
             /* Text. */
             if (notification.data.time > 0.1f) {
-                ColourRGB textColour = new ColourRGB(255, 255, 255, 200);
                 crimson.getGlHelper().startScissorBox(x, y, width, height);
-                int i = 0;
-                for (String line : wrappedTitle) {
-                    crimson.getEnhancedFontRenderer().drawText(line, x + 8, y + 8 + (i * 2) + (i * Minecraft.getMinecraft().fontRendererObj.FONT_HEIGHT), textColour.getRGBA(), true);
-                    i++;
-                }
-                for (String line : wrappedDescription) {
-                    crimson.getEnhancedFontRenderer().drawText(line, x + 8, y + 8 + (i * 2) + (i * Minecraft.getMinecraft().fontRendererObj.FONT_HEIGHT), textColour.getRGBA(), true);
-                    i++;
-                }
+                int i = drawLines(titleLayout, x + 8, y + 8, 0, TEXT_COLOUR);
+                drawLines(descriptionLayout, x + 8, y + 8, i, TEXT_COLOUR);
                 crimson.getGlHelper().endScissorBox();
             }
             GlStateManager.popMatrix();
@@ -127,19 +267,87 @@ public class Notifications implements INotifications {
             }
 
             if (!hovered) {
-                notification.data.time += (notification.data.closing ? -0.02 : 0.02) * (ticks * 3);
+                notification.data.time += (notification.data.closing ? -TIME_SPEED : TIME_SPEED) * delta;
             }
 
             if (notification.data.closing && notification.data.time <= 0) {
-                notifications.remove(notification);
+                finished = true;
             }
         }
+
+        if (finished) {
+            removeFinished();
+        }
+    }
+
+    /**
+     * Removes closed notifications from the active slots, keeping the others in order.
+     */
+    private void removeFinished() {
+        synchronized (lock) {
+            int count = 0;
+            for (int i = 0; i < activeCount; i++) {
+                Notification notification = active[i];
+                if (!notification.data.closing || notification.data.time > 0) {
+                    active[count++] = notification;
+                } else if (notification.data.slideAnimation != -1) {
+                    crimson.getAnimationScheduler().release(notification.data.slideAnimation);
+                    notification.data.slideAnimation = -1;
+                }
+            }
+
+            Arrays.fill(active, count, activeCount, null);
+            activeCount = count;
+        }
+    }
+
+    /**
+     * Draws the lines of a layout, skipping any which fall outside of the notification's scissor box.
+     *
+     * @return The index of the line after the last one drawn.
+     */
+    private int drawLines(TextLayout layout, float x, float y, int i, int colour) {
+        for (int line = 0; line < layout.getLineCount(); line++, i++) {
+            float lineY = y + (i * 2) + (i * layout.getLineHeight());
+            if (crimson.getGlHelper().isVisible(x, lineY, layout.getLineWidth(line) + 1, layout.getLineHeight() + 1)) {
+                crimson.getEnhancedFontRenderer().drawText(layout.getLine(line), x, lineY, colour, true);
+            }
+        }
+
+        return i;
+    }
+
+    /**
+     * @return The layout given if it's still valid for the text and width, otherwise a new one.
+     */
+    private TextLayout layout(TextLayout layout, String text, int width) {
+        if (layout != null && layout.matches(text, width, crimson.getEnhancedFontRenderer().getGeneration()))
+            return layout;
+        return crimson.getEnhancedFontRenderer().getLayout(text, width);
+    }
+
+    /**
+     * Titles are drawn in bold, this checks the previous layout without building the bold title each frame.
+     */
+    private TextLayout layoutTitle(TextLayout layout, String title, int width) {
+        if (layout != null && layout.getWrapWidth() == width && layout.getGeneration() == crimson.getEnhancedFontRenderer().getGeneration()) {
+            String text = layout.getText();
+            if (text.length() == ChatColour.BOLD.toString().length() + title.length() && text.endsWith(title))
+                return layout;
+        }
+
+        return crimson.getEnhancedFontRenderer().getLayout(ChatColour.BOLD + title, width);
     }
 
     @SubscribeEvent
     public void onRenderTick(TickEvent.RenderTickEvent event) {
         if (event.phase == TickEvent.Phase.END) {
-            render(event.renderTickTime);
+            crimson.getRenderProfiler().begin(RenderProfiler.Section.NOTIFICATIONS);
+            try {
+                render(event.renderTickTime);
+            } finally {
+                crimson.getRenderProfiler().end(RenderProfiler.Section.NOTIFICATIONS);
+            }
         }
     }
 
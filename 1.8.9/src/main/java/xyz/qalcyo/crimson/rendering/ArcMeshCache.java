@@ -0,0 +1,154 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.rendering;
+
+import org.lwjgl.opengl.GL11;
+import xyz.qalcyo.crimson.Crimson;
+import xyz.qalcyo.crimson.core.bridge.crimson.IRenderingBridge;
+import xyz.qalcyo.crimson.core.rendering.IMesh;
+import xyz.qalcyo.crimson.core.util.VertexFormats;
+
+/**
+ * Caches the geometry of hollow arcs, such as rounded borders, on the GPU.
+ *
+ * Meshes are built through {@link IRenderingBridge#beginMesh}, relative to their centre and with no colour,
+ * so that the same mesh can be drawn anywhere in any colour. Also provides the unit-circle tables used for filled arcs.
+ */
+public class ArcMeshCache {
+
+    /* Filled arcs are split into this many steps per full circle. */
+    static final int ARC_STEPS = 100;
+    private static final int MAX_MESHES = 64;
+
+    private static final float[] STEP_SIN = new float[ARC_STEPS];
+    private static final float[] STEP_COS = new float[ARC_STEPS];
+    private static final float[] DEGREE_SIN = new float[360];
+    private static final float[] DEGREE_COS = new float[360];
+
+    static {
+        for (int i = 0; i < ARC_STEPS; i++) {
+            double angle = (Math.PI * 2 * i / ARC_STEPS) + Math.PI;
+            STEP_SIN[i] = (float) Math.sin(angle);
+            STEP_COS[i] = (float) Math.cos(angle);
+        }
+
+        for (int i = 0; i < 360; i++) {
+            DEGREE_SIN[i] = (float) Math.sin(Math.toRadians(i));
+            DEGREE_COS[i] = (float) Math.cos(Math.toRadians(i));
+        }
+    }
+
+    /* Looked up by their packed key without boxing it, the least recently used mesh is replaced once full. */
+    private final long[] keys = new long[MAX_MESHES];
+    private final IMesh[] meshes = new IMesh[MAX_MESHES];
+    private final long[] lastUsed = new long[MAX_MESHES];
+    private int meshCount;
+    private long uses;
+
+    /**
+     * @return The sine of a filled arc step, offset by half a turn.
+     */
+    static float stepSin(int step) {
+        return STEP_SIN[Math.floorMod(step, ARC_STEPS)];
+    }
+
+    /**
+     * @return The cosine of a filled arc step, offset by half a turn.
+     */
+    static float stepCos(int step) {
+        return STEP_COS[Math.floorMod(step, ARC_STEPS)];
+    }
+
+    /**
+     * Draws a hollow arc centred on the current origin, in the current colour.
+     *
+     * @param radius    The radius of the middle of the arc's outline.
+     * @param start     The angle to start the arc at, in degrees.
+     * @param end       The angle to end the arc at, in degrees.
+     * @param thickness   The thickness of the arc's outline in pixels, like the line width it used to be drawn with.
+     * @param scaleFactor The GUI scale factor, which the thickness is divided by so it looks the same at any scale.
+     */
+    public void drawHollowArc(int radius, int start, int end, int thickness, int scaleFactor) {
+        long key = (radius & 0xFFFFL) << 48 | (start & 0xFFFFL) << 32 | (end & 0xFFFFL) << 16 | (thickness & 0xFFL) << 8 | scaleFactor & 0xFFL;
+        int index = indexOf(key);
+        if (index == -1) {
+            index = allocate();
+            keys[index] = key;
+            meshes[index] = createHollowArc(radius, start, end, (float) thickness / scaleFactor);
+        }
+
+        lastUsed[index] = ++uses;
+        meshes[index].draw();
+    }
+
+    /**
+     * Deletes every cached mesh.
+     */
+    public void clear() {
+        for (int i = 0; i < meshCount; i++) {
+            meshes[i].delete();
+            meshes[i] = null;
+        }
+
+        meshCount = 0;
+    }
+
+    private int indexOf(long key) {
+        for (int i = 0; i < meshCount; i++) {
+            if (keys[i] == key)
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return A free slot, deleting the least recently used mesh if there aren't any left.
+     */
+    private int allocate() {
+        if (meshCount < MAX_MESHES)
+            return meshCount++;
+
+        int eldest = 0;
+        for (int i = 1; i < MAX_MESHES; i++) {
+            if (lastUsed[i] < lastUsed[eldest]) {
+                eldest = i;
+            }
+        }
+
+        meshes[eldest].delete();
+        return eldest;
+    }
+
+    private static IMesh createHollowArc(int radius, int start, int end, float width) {
+        float inner = radius - width / 2f;
+        float outer = radius + width / 2f;
+        IRenderingBridge renderer = Crimson.getInstance().getBridge().getRenderingBridge();
+        renderer.beginMesh(GL11.GL_TRIANGLE_STRIP, VertexFormats.POSITION);
+        for (int i = start; i <= end; i++) {
+            float sin = DEGREE_SIN[Math.floorMod(i, 360)];
+            float cos = DEGREE_COS[Math.floorMod(i, 360)];
+            renderer.pos(sin * outer, cos * outer, 0).nextVertex();
+            renderer.pos(sin * inner, cos * inner, 0).nextVertex();
+        }
+
+        return renderer.endMesh();
+    }
+
+}
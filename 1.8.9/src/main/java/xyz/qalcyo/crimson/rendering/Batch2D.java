@@ -0,0 +1,111 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.rendering;
+
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.WorldRenderer;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import org.lwjgl.opengl.GL11;
+import xyz.qalcyo.crimson.core.rendering.IBatch2D;
+
+import java.util.Arrays;
+
+/**
+ * Collects coloured triangles into a single {@link DefaultVertexFormats#POSITION_COLOR} buffer, drawn with one
+ * state setup and one draw call per flush.
+ */
+public class Batch2D implements IBatch2D {
+
+    /* Flushes early past this many vertices, so a forgotten flush can't grow the buffers forever. */
+    private static final int MAX_VERTICES = 1 << 15;
+
+    private float[] positions = new float[512];
+    private int[] colours = new int[256];
+    private int vertices;
+
+    public void triangle(float x1, float y1, float x2, float y2, float x3, float y3, int colour) {
+        ensureCapacity(3);
+        vertex(x1, y1, colour);
+        vertex(x2, y2, colour);
+        vertex(x3, y3, colour);
+    }
+
+    public void arc(float x, float y, float radius, int start, int end, int colour) {
+        int first = (int) (start / 360.0 * ArcMeshCache.ARC_STEPS);
+        int last = (int) (end / 360.0 * ArcMeshCache.ARC_STEPS);
+        float previousX = 0;
+        float previousY = 0;
+        for (int i = first; i <= last; i++) {
+            float pointX = x + ArcMeshCache.stepSin(i) * radius;
+            float pointY = y + ArcMeshCache.stepCos(i) * radius;
+            if (i != first) {
+                triangle(x, y, previousX, previousY, pointX, pointY, colour);
+            }
+
+            previousX = pointX;
+            previousY = pointY;
+        }
+    }
+
+    public boolean isEmpty() {
+        return vertices == 0;
+    }
+
+    public void flush() {
+        if (vertices == 0)
+            return;
+
+        Tessellator tessellator = Tessellator.getInstance();
+        WorldRenderer worldRenderer = tessellator.getWorldRenderer();
+        GlStateManager.enableBlend();
+        GlStateManager.disableTexture2D();
+        GlStateManager.tryBlendFuncSeparate(770, 771, 1, 0);
+        worldRenderer.begin(GL11.GL_TRIANGLES, DefaultVertexFormats.POSITION_COLOR);
+        for (int i = 0; i < vertices; i++) {
+            int colour = colours[i];
+            worldRenderer.pos(positions[i * 2], positions[i * 2 + 1], 0).color(colour >> 16 & 255, colour >> 8 & 255, colour & 255, colour >> 24 & 255).endVertex();
+        }
+
+        tessellator.draw();
+        GlStateManager.enableTexture2D();
+        GlStateManager.disableBlend();
+        vertices = 0;
+    }
+
+    private void ensureCapacity(int count) {
+        if (vertices + count > MAX_VERTICES) {
+            flush();
+        }
+
+        if (vertices + count > colours.length) {
+            int capacity = Math.max(colours.length * 2, vertices + count);
+            positions = Arrays.copyOf(positions, capacity * 2);
+            colours = Arrays.copyOf(colours, capacity);
+        }
+    }
+
+    private void vertex(float x, float y, int colour) {
+        positions[vertices * 2] = x;
+        positions[vertices * 2 + 1] = y;
+        colours[vertices] = colour;
+        vertices++;
+    }
+
+}
@@ -18,24 +18,127 @@
 
 package xyz.qalcyo.crimson.rendering;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.WorldRenderer;
 import xyz.qalcyo.crimson.Crimson;
+import xyz.qalcyo.crimson.core.events.FontRendererEvent;
 import xyz.qalcyo.crimson.core.rendering.IEnhancedFontRenderer;
+import xyz.qalcyo.crimson.core.rendering.RenderProfiler;
+import xyz.qalcyo.crimson.core.rendering.TextLayout;
+import xyz.qalcyo.crimson.core.util.ColourHelper;
+
+import java.util.Arrays;
 
 public class EnhancedFontRenderer implements IEnhancedFontRenderer {
 
+    private static final int UNKNOWN_WIDTH = Integer.MIN_VALUE;
+
+    /* Widths of single characters, filled in as they're first measured. */
+    private final int[] charWidths = new int[Character.MAX_VALUE + 1];
+    /* Widths of whole strings, these include formatting and text transformers. */
+    private final Cache<String, Integer> stringWidths = Caffeine.newBuilder().maximumSize(4096).build();
+    private final Cache<LayoutKey, TextLayout> layouts = Caffeine.newBuilder().maximumSize(512).build();
+    private final FontAtlas fontAtlas = new FontAtlas();
+    private boolean fontAtlasEnabled = Crimson.getInstance().getJavaArguments().isFontAtlas();
+    private volatile int generation;
+    private int transformersVersion;
+
+    public EnhancedFontRenderer() {
+        Arrays.fill(charWidths, UNKNOWN_WIDTH);
+    }
+
     public FontRenderer getFontRenderer() {
         return Minecraft.getMinecraft().fontRendererObj;
     }
 
     public int getWidth(CharSequence input) {
-        return getFontRenderer().getStringWidth(input.toString());
+        /* Width listeners may change their output at any time, so nothing can be cached while they're present. */
+        if (Crimson.getInstance().getCrimsonEventBus().hasSubscribers(FontRendererEvent.WidthGottenEvent.class))
+            return getFontRenderer().getStringWidth(input.toString());
+
+        checkTransformers();
+        String text = input.toString();
+        Integer width = stringWidths.getIfPresent(text);
+        if (width == null) {
+            width = getFontRenderer().getStringWidth(text);
+            stringWidths.put(text, width);
+        }
+
+        return width;
     }
 
     public int getWidth(char input) {
-        return getFontRenderer().getCharWidth(input);
+        int width = charWidths[input];
+        if (width == UNKNOWN_WIDTH) {
+            width = charWidths[input] = getFontRenderer().getCharWidth(input);
+        }
+
+        return width;
+    }
+
+    public TextBatch createTextBatch() {
+        return new TextBatch(this);
+    }
+
+    public int getFontHeight() {
+        return getFontRenderer().FONT_HEIGHT;
+    }
+
+    public TextLayout getLayout(String text, int width) {
+        int generation = getGeneration();
+        LayoutKey key = new LayoutKey(text, width);
+        TextLayout layout = layouts.getIfPresent(key);
+        if (layout == null || layout.getGeneration() != generation) {
+            layout = TextLayout.create(this, text, width);
+            layouts.put(key, layout);
+        }
+
+        return layout;
+    }
+
+    /**
+     * @return Whether scaled text is drawn from the distance field font atlas when possible.
+     */
+    public boolean isFontAtlasEnabled() {
+        return fontAtlasEnabled;
+    }
+
+    /**
+     * Toggles drawing scaled text from the distance field font atlas, text falls back to the vanilla renderer while it's being built.
+     */
+    public void setFontAtlasEnabled(boolean fontAtlasEnabled) {
+        this.fontAtlasEnabled = fontAtlasEnabled;
+    }
+
+    public void invalidateCaches() {
+        fontAtlas.invalidate();
+        Arrays.fill(charWidths, UNKNOWN_WIDTH);
+        stringWidths.invalidateAll();
+        layouts.invalidateAll();
+        generation++;
+    }
+
+    public int getGeneration() {
+        checkTransformers();
+        return generation;
+    }
+
+    /**
+     * Resets string metrics if the text transformers have changed since they were cached.
+     */
+    private void checkTransformers() {
+        int version = Crimson.getInstance().getTextTransformers().getVersion();
+        if (version != transformersVersion) {
+            transformersVersion = version;
+            stringWidths.invalidateAll();
+            layouts.invalidateAll();
+            generation++;
+        }
     }
 
     public CharSequence trim(CharSequence input, int width, boolean reverse) {
@@ -47,7 +150,13 @@ public class EnhancedFontRenderer implements IEnhancedFontRenderer {
     }
 
     public void drawText(String text, float x, float y, int colour, boolean shadow) {
-        getFontRenderer().drawString(text, x, y, colour, shadow);
+        RenderProfiler profiler = Crimson.getInstance().getRenderProfiler();
+        profiler.begin(RenderProfiler.Section.FONT_RENDERER);
+        try {
+            getFontRenderer().drawString(text, x, y, colour, shadow);
+        } finally {
+            profiler.end(RenderProfiler.Section.FONT_RENDERER);
+        }
     }
 
     public void drawText(String text, float x, float y, int colour) {
@@ -95,10 +204,18 @@ public class EnhancedFontRenderer implements IEnhancedFontRenderer {
     }
 
     public void drawScaledText(String text, float scale, float x, float y, int colour, boolean shadow) {
-        GlStateManager.pushMatrix();
-        GlStateManager.scale(scale, scale, scale);
-        drawText(text, x, y, colour, shadow);
-        GlStateManager.popMatrix();
+        RenderProfiler profiler = Crimson.getInstance().getRenderProfiler();
+        profiler.begin(RenderProfiler.Section.FONT_RENDERER);
+        try {
+            if (!fontAtlasEnabled || !drawAtlasText(text, x * scale, y * scale, scale, colour, shadow)) {
+                GlStateManager.pushMatrix();
+                GlStateManager.scale(scale, scale, scale);
+                drawText(text, x, y, colour, shadow);
+                GlStateManager.popMatrix();
+            }
+        } finally {
+            profiler.end(RenderProfiler.Section.FONT_RENDERER);
+        }
     }
 
     public void drawScaledText(String text, float scale, float x, float y, int colour) {
@@ -121,15 +238,107 @@ public class EnhancedFontRenderer implements IEnhancedFontRenderer {
         drawScaledText(text, scale, x, y, -1);
     }
 
+    /**
+     * Draws chroma text as a single batch of quads, colouring each vertex by it's position.
+     * Falls back to drawing character by character when the text can't be drawn from the ASCII font page.
+     */
     public void drawChromaText(String text, float x, float y, boolean shadow) {
+        RenderProfiler profiler = Crimson.getInstance().getRenderProfiler();
+        profiler.begin(RenderProfiler.Section.FONT_RENDERER);
+        try {
+            renderChromaText(text, x, y, shadow);
+        } finally {
+            profiler.end(RenderProfiler.Section.FONT_RENDERER);
+        }
+    }
+
+    private void renderChromaText(String text, float x, float y, boolean shadow) {
+        FontRenderer fontRenderer = getFontRenderer();
+        text = Crimson.getInstance().getTextTransformers().apply(text);
+        if (canBatch(fontRenderer, text)) {
+            long time = System.currentTimeMillis();
+            Tessellator tessellator = Tessellator.getInstance();
+            WorldRenderer worldRenderer = tessellator.getWorldRenderer();
+            GlyphRenderer.begin(worldRenderer);
+            if (shadow) {
+                emitChromaText(worldRenderer, fontRenderer, text, x, y, 1, time);
+            }
+
+            emitChromaText(worldRenderer, fontRenderer, text, x, y, 0, time);
+            tessellator.draw();
+            return;
+        }
+
+        long time = System.currentTimeMillis();
         for (char c : text.toCharArray()) {
-            int colour = Crimson.getInstance().getColourHelper().getChroma(x, y).getRGB();
+            int colour = Crimson.getInstance().getColourHelper().chroma(x, y, time);
             String str = String.valueOf(c);
             drawText(str, x, y, colour, shadow);
             x += getWidth(c);
         }
     }
 
+    /**
+     * @return Whether the text can be drawn by {@link GlyphRenderer} without skipping anything the vanilla renderer would do.
+     */
+    boolean canBatch(FontRenderer fontRenderer, String text) {
+        return GlyphRenderer.canRender(fontRenderer, text) && !Crimson.getInstance().getCrimsonEventBus().hasSubscribers(FontRendererEvent.RenderStringEvent.class);
+    }
+
+    /**
+     * Draws text from the distance field atlas, with it's scale applied to the vertices.
+     *
+     * @return Whether the text was drawn, the atlas is only used for opaque text once it's been built.
+     */
+    private boolean drawAtlasText(String text, float x, float y, float scale, int colour, boolean shadow) {
+        FontRenderer fontRenderer = getFontRenderer();
+        text = Crimson.getInstance().getTextTransformers().apply(text);
+        boolean opaque = (colour & 0xFC000000) == 0 || (colour >>> 24) == 255;
+        if (!opaque || !canBatch(fontRenderer, text) || !GlyphRenderer.isFormattingSupported(text) || !fontAtlas.isAvailable())
+            return false;
+
+        Tessellator tessellator = Tessellator.getInstance();
+        WorldRenderer worldRenderer = tessellator.getWorldRenderer();
+        fontAtlas.begin(worldRenderer);
+        if (shadow) {
+            GlyphRenderer.text(worldRenderer, fontRenderer, fontAtlas, text, x, y, scale, colour, true);
+        }
+
+        GlyphRenderer.text(worldRenderer, fontRenderer, fontAtlas, text, x, y, scale, colour, false);
+        tessellator.draw();
+        fontAtlas.end();
+        return true;
+    }
+
+    /**
+     * Adds the glyphs of chroma text to the current batch, offsetting them to draw it's shadow.
+     */
+    private void emitChromaText(WorldRenderer worldRenderer, FontRenderer fontRenderer, String text, float x, float y, float offset, long time) {
+        ColourHelper colourHelper = Crimson.getInstance().getColourHelper();
+        boolean shadow = offset != 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\u00a7' && i + 1 < text.length()) {
+                i++;
+                continue;
+            }
+
+            float width = fontRenderer.getCharWidth(c);
+            int left = colourHelper.chroma(x, y, time);
+            int right = colourHelper.chroma(x + width, y, time);
+            int bottomLeft = colourHelper.chroma(x, y + 8, time);
+            int bottomRight = colourHelper.chroma(x + width, y + 8, time);
+            if (shadow) {
+                left = GlyphRenderer.shadow(left);
+                right = GlyphRenderer.shadow(right);
+                bottomLeft = GlyphRenderer.shadow(bottomLeft);
+                bottomRight = GlyphRenderer.shadow(bottomRight);
+            }
+
+            x += GlyphRenderer.glyph(worldRenderer, fontRenderer, c, x + offset, y + offset, false, left, bottomLeft, bottomRight, right);
+        }
+    }
+
     public void drawChromaText(String text, float x, float y) {
         drawChromaText(text, x, y, false);
     }
@@ -143,10 +352,7 @@ public class EnhancedFontRenderer implements IEnhancedFontRenderer {
     }
 
     public void drawCenteredScaledText(String text, float scale, float x, float y, int colour, boolean shadow) {
-        GlStateManager.pushMatrix();
-        GlStateManager.scale(scale, scale, scale);
-        drawCenteredText(text, x, y, colour, shadow);
-        GlStateManager.popMatrix();
+        drawScaledText(text, scale, makeCentered(text, x), y, colour, shadow);
     }
 
     public void drawCenteredScaledText(String text, float scale, float x, float y, int colour) {
@@ -223,4 +429,25 @@ public class EnhancedFontRenderer implements IEnhancedFontRenderer {
         drawCenteredScaledChromaText(text, scale, x, y, false);
     }
 
-}
\ No newline at end of file
+    private static final class LayoutKey {
+        private final String text;
+        private final int width;
+
+        private LayoutKey(String text, int width) {
+            this.text = text;
+            this.width = width;
+        }
+
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LayoutKey)) return false;
+            LayoutKey that = (LayoutKey) o;
+            return width == that.width && text.equals(that.text);
+        }
+
+        public int hashCode() {
+            return 31 * text.hashCode() + width;
+        }
+    }
+
+}
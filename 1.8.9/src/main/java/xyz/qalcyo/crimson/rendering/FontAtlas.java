@@ -0,0 +1,212 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.rendering;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.WorldRenderer;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import org.lwjgl.opengl.GL11;
+import xyz.qalcyo.crimson.Crimson;
+import xyz.qalcyo.mango.Multithreading;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+
+/**
+ * A signed distance field version of the ASCII font page.
+ *
+ * Each glyph is stored as the distance to it's nearest edge rather than it's coverage, so with linear filtering
+ * and an alpha test at the halfway point the edges stay sharp at any scale. The field is computed once, off the
+ * render thread, the first time it's requested and uploaded on the render thread once it's ready.
+ */
+final class FontAtlas {
+
+    /* Texels per glyph cell, and how far (in texels) the distance field spreads from each edge. */
+    private static final int CELL_SIZE = 32;
+    private static final int SPREAD = 6;
+    private static final int SIZE = CELL_SIZE * 16;
+    /* How far past the glyph's pixels quads are extended, so edges aren't clipped by the quad itself. */
+    private static final float PADDING = 0.5f;
+
+    private volatile int[] pixels;
+    private volatile boolean building;
+    private volatile boolean failed;
+    private volatile int version;
+    private DynamicTexture texture;
+
+    /**
+     * @return Whether the atlas can be drawn from, starting to build it if it hasn't been yet.
+     */
+    boolean isAvailable() {
+        if (texture != null)
+            return true;
+        if (failed)
+            return false;
+
+        int[] pixels = this.pixels;
+        if (pixels == null) {
+            build();
+            return false;
+        }
+
+        texture = new DynamicTexture(SIZE, SIZE);
+        System.arraycopy(pixels, 0, texture.getTextureData(), 0, pixels.length);
+        texture.updateDynamicTexture();
+        GlStateManager.bindTexture(texture.getGlTextureId());
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_LINEAR);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_LINEAR);
+        this.pixels = null;
+        return true;
+    }
+
+    /**
+     * Releases the uploaded texture, the atlas will be rebuilt the next time it's requested.
+     */
+    void invalidate() {
+        if (texture != null) {
+            texture.deleteGlTexture();
+            texture = null;
+        }
+
+        version++;
+        pixels = null;
+        failed = false;
+    }
+
+    /**
+     * Binds the atlas and starts a batch of textured, coloured quads, only text which is fully opaque should be drawn.
+     */
+    void begin(WorldRenderer worldRenderer) {
+        GlStateManager.bindTexture(texture.getGlTextureId());
+        GlStateManager.enableTexture2D();
+        GlStateManager.enableAlpha();
+        GlStateManager.alphaFunc(GL11.GL_GREATER, 0.5f);
+        GlStateManager.color(1, 1, 1, 1);
+        worldRenderer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_TEX_COLOR);
+    }
+
+    /**
+     * Restores the alpha test changed by {@link #begin(WorldRenderer)}, should be called after drawing.
+     */
+    void end() {
+        GlStateManager.alphaFunc(GL11.GL_GREATER, 0.1f);
+    }
+
+    /**
+     * Adds a single scaled glyph to the current batch.
+     *
+     * @return The horizontal advance of the glyph, before scaling.
+     */
+    float glyph(WorldRenderer worldRenderer, FontRenderer fontRenderer, char c, float x, float y, float scale, boolean italic, int colour) {
+        if (c == ' ')
+            return 4;
+
+        int width = fontRenderer.getCharWidth(c);
+        float texel = CELL_SIZE / 8f / SIZE;
+        float u = (c % 16 * 8 - PADDING) * texel;
+        float v = (c / 16 * 8 - PADDING) * texel;
+        float u2 = (c % 16 * 8 + width - 1 + PADDING) * texel;
+        float v2 = (c / 16 * 8 + 8 + PADDING) * texel;
+        float slant = italic ? scale : 0;
+        float left = x - PADDING * scale;
+        float top = y - PADDING * scale;
+        float right = x + (width - 1 + PADDING) * scale;
+        float bottom = y + (8 + PADDING) * scale;
+
+        int r = colour >> 16 & 255;
+        int g = colour >> 8 & 255;
+        int b = colour & 255;
+        worldRenderer.pos(left + slant, top, 0).tex(u, v).color(r, g, b, 255).endVertex();
+        worldRenderer.pos(left - slant, bottom, 0).tex(u, v2).color(r, g, b, 255).endVertex();
+        worldRenderer.pos(right - slant, bottom, 0).tex(u2, v2).color(r, g, b, 255).endVertex();
+        worldRenderer.pos(right + slant, top, 0).tex(u2, v).color(r, g, b, 255).endVertex();
+        return width;
+    }
+
+    private synchronized void build() {
+        if (building)
+            return;
+
+        building = true;
+        int version = this.version;
+        Multithreading.runAsync(() -> {
+            try (InputStream stream = Minecraft.getMinecraft().getResourceManager().getResource(GlyphRenderer.ASCII_TEXTURE).getInputStream()) {
+                int[] pixels = generate(ImageIO.read(stream));
+                /* Resources were reloaded while building, so the next request builds again. */
+                if (version == this.version) {
+                    this.pixels = pixels;
+                }
+            } catch (Exception e) {
+                failed = true;
+                Crimson.getInstance().getLogger().error("Couldn't build the font atlas, falling back to the vanilla font renderer.", e);
+            } finally {
+                building = false;
+            }
+        });
+    }
+
+    /**
+     * Samples the font page up to the atlas' resolution, then stores each texel's distance to the nearest glyph edge in it's alpha.
+     */
+    private static int[] generate(BufferedImage image) {
+        boolean[] inside = new boolean[SIZE * SIZE];
+        for (int y = 0; y < SIZE; y++) {
+            int sourceY = y * image.getHeight() / SIZE;
+            for (int x = 0; x < SIZE; x++) {
+                int sourceX = x * image.getWidth() / SIZE;
+                inside[y * SIZE + x] = (image.getRGB(sourceX, sourceY) >>> 24) > 127;
+            }
+        }
+
+        int[] pixels = new int[SIZE * SIZE];
+        int limit = SPREAD * SPREAD;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                boolean state = inside[y * SIZE + x];
+                int nearest = limit;
+                for (int offsetY = -SPREAD; offsetY <= SPREAD; offsetY++) {
+                    int sampleY = y + offsetY;
+                    if (sampleY < 0 || sampleY >= SIZE)
+                        continue;
+
+                    for (int offsetX = -SPREAD; offsetX <= SPREAD; offsetX++) {
+                        int sampleX = x + offsetX;
+                        if (sampleX < 0 || sampleX >= SIZE || inside[sampleY * SIZE + sampleX] == state)
+                            continue;
+
+                        nearest = Math.min(nearest, offsetX * offsetX + offsetY * offsetY);
+                    }
+                }
+
+                /* Edges lie halfway between texels, so distances are offset by half a texel on each side. */
+                float distance = (float) Math.sqrt(nearest) - 0.5f;
+                float value = 0.5f + (state ? distance : -distance) / (2 * SPREAD);
+                int alpha = Math.round(Math.max(0, Math.min(1, value)) * 255);
+                pixels[y * SIZE + x] = alpha << 24 | 0xFFFFFF;
+            }
+        }
+
+        return pixels;
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.rendering;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.WorldRenderer;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.util.ResourceLocation;
+import org.lwjgl.opengl.GL11;
+
+/**
+ * Emits glyphs from the default ASCII font page as plain quads, so that whole strings can be drawn in one pass.
+ *
+ * Mirrors the geometry of {@link FontRenderer}'s default character rendering. Only printable ASCII is supported,
+ * anything else (or the Unicode font) should be drawn by the vanilla renderer instead.
+ */
+final class GlyphRenderer {
+
+    static final ResourceLocation ASCII_TEXTURE = new ResourceLocation("textures/font/ascii.png");
+    private static final String FORMATTING_CODES = "0123456789abcdefklmnor";
+
+    private GlyphRenderer() {
+    }
+
+    /**
+     * @return Whether every character of the text can be drawn from the ASCII page, skipping formatting codes.
+     */
+    static boolean canRender(FontRenderer fontRenderer, CharSequence text) {
+        if (fontRenderer.getUnicodeFlag() || fontRenderer.getBidiFlag())
+            return false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\u00a7' && i + 1 < text.length()) {
+                i++;
+                continue;
+            }
+
+            if (c < 32 || c > 126)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Binds the font texture and starts a batch of textured, coloured quads.
+     */
+    static void begin(WorldRenderer worldRenderer) {
+        Minecraft.getMinecraft().getTextureManager().bindTexture(ASCII_TEXTURE);
+        GlStateManager.enableTexture2D();
+        GlStateManager.enableAlpha();
+        GlStateManager.color(1, 1, 1, 1);
+        worldRenderer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_TEX_COLOR);
+    }
+
+    /**
+     * Adds a single glyph to the current batch, with a colour for each of it's corners.
+     *
+     * @return The horizontal advance of the glyph, before scaling.
+     */
+    static float glyph(WorldRenderer worldRenderer, FontRenderer fontRenderer, char c, float x, float y, boolean italic, int topLeft, int bottomLeft, int bottomRight, int topRight) {
+        return glyph(worldRenderer, fontRenderer, c, x, y, 1, italic, topLeft, bottomLeft, bottomRight, topRight);
+    }
+
+    /**
+     * Adds a single scaled glyph to the current batch, with a colour for each of it's corners.
+     *
+     * @return The horizontal advance of the glyph, before scaling.
+     */
+    static float glyph(WorldRenderer worldRenderer, FontRenderer fontRenderer, char c, float x, float y, float scale, boolean italic, int topLeft, int bottomLeft, int bottomRight, int topRight) {
+        if (c == ' ')
+            return 4;
+
+        int width = fontRenderer.getCharWidth(c);
+        float u = (c % 16 * 8) / 128f;
+        float v = (c / 16 * 8) / 128f;
+        float glyphWidth = width - 1.01f;
+        float u2 = u + glyphWidth / 128f;
+        float v2 = v + 7.99f / 128f;
+        float slant = italic ? scale : 0;
+        float right = x + glyphWidth * scale;
+        float bottom = y + 7.99f * scale;
+
+        vertex(worldRenderer, x + slant, y, u, v, topLeft);
+        vertex(worldRenderer, x - slant, bottom, u, v2, bottomLeft);
+        vertex(worldRenderer, right - slant, bottom, u2, v2, bottomRight);
+        vertex(worldRenderer, right + slant, y, u2, v, topRight);
+        return width;
+    }
+
+    /**
+     * @return The colour used for the shadow of text drawn in the colour given.
+     */
+    static int shadow(int colour) {
+        return (colour & 0xFCFCFC) >> 2 | colour & 0xFF000000;
+    }
+
+    /**
+     * Adds the glyphs of a string to the current batch, following the colour, bold and italic formatting codes.
+     *
+     * @param atlas The distance field atlas the batch was started with, or null when drawing from the font page.
+     */
+    static void text(WorldRenderer worldRenderer, FontRenderer fontRenderer, FontAtlas atlas, String text, float x, float y, float scale, int colour, boolean shadow) {
+        if ((colour & 0xFC000000) == 0)
+            colour |= 0xFF000000;
+
+        int base = shadow ? shadow(colour) : colour;
+        int current = base;
+        boolean bold = false;
+        boolean italic = false;
+        if (shadow) {
+            x += scale;
+            y += scale;
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\u00a7' && i + 1 < text.length()) {
+                int index = FORMATTING_CODES.indexOf(Character.toLowerCase(text.charAt(++i)));
+                if (index >= 0 && index < 16) {
+                    int code = fontRenderer.getColorCode(FORMATTING_CODES.charAt(index));
+                    current = (shadow ? shadow(code) : code) & 0xFFFFFF | base & 0xFF000000;
+                    bold = false;
+                    italic = false;
+                } else if (index == 17) {
+                    bold = true;
+                } else if (index == 20) {
+                    italic = true;
+                } else if (index == 21) {
+                    current = base;
+                    bold = false;
+                    italic = false;
+                }
+
+                continue;
+            }
+
+            float advance = atlas == null ? glyph(worldRenderer, fontRenderer, c, x, y, scale, italic, current, current, current, current) : atlas.glyph(worldRenderer, fontRenderer, c, x, y, scale, italic, current);
+            if (bold) {
+                if (atlas == null) {
+                    glyph(worldRenderer, fontRenderer, c, x + scale, y, scale, italic, current, current, current, current);
+                } else {
+                    atlas.glyph(worldRenderer, fontRenderer, c, x + scale, y, scale, italic, current);
+                }
+
+                advance++;
+            }
+
+            x += advance * scale;
+        }
+    }
+
+    /**
+     * @return Whether the text avoids formatting which needs more than glyph quads to draw.
+     */
+    static boolean isFormattingSupported(String text) {
+        for (int i = 0; i < text.length() - 1; i++) {
+            if (text.charAt(i) == '\u00a7') {
+                char code = Character.toLowerCase(text.charAt(++i));
+                if (code == 'k' || code == 'm' || code == 'n')
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void vertex(WorldRenderer worldRenderer, float x, float y, float u, float v, int colour) {
+        worldRenderer.pos(x, y, 0).tex(u, v).color(colour >> 16 & 255, colour >> 8 & 255, colour & 255, colour >> 24 & 255).endVertex();
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.rendering;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.WorldRenderer;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.client.shader.Framebuffer;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL14;
+import org.lwjgl.opengl.GL30;
+import xyz.qalcyo.crimson.Crimson;
+import xyz.qalcyo.crimson.core.rendering.ILayerCache;
+
+import java.nio.IntBuffer;
+
+/**
+ * Renders a layer into a framebuffer the size of the display, then composites it over
+ * the screen in GUI coordinates. Falls back to drawing directly if framebuffers aren't supported.
+ */
+public class LayerCache implements ILayerCache {
+
+    private static final IntBuffer VIEWPORT = BufferUtils.createIntBuffer(16);
+
+    private Framebuffer framebuffer;
+    private boolean dirty = true;
+
+    public void render(Runnable draw) {
+        if (!OpenGlHelper.isFramebufferEnabled()) {
+            draw.run();
+            return;
+        }
+
+        Minecraft mc = Minecraft.getMinecraft();
+        if (framebuffer == null) {
+            framebuffer = new Framebuffer(mc.displayWidth, mc.displayHeight, true);
+            framebuffer.setFramebufferColor(0, 0, 0, 0);
+            dirty = true;
+        } else if (framebuffer.framebufferWidth != mc.displayWidth || framebuffer.framebufferHeight != mc.displayHeight) {
+            framebuffer.createBindFramebuffer(mc.displayWidth, mc.displayHeight);
+            dirty = true;
+        }
+
+        /* Restored once composited, so whatever was drawn before the layer carries on unchanged. */
+        boolean blend = GL11.glIsEnabled(GL11.GL_BLEND);
+        boolean alpha = GL11.glIsEnabled(GL11.GL_ALPHA_TEST);
+        int srcFactor = GL11.glGetInteger(GL14.GL_BLEND_SRC_RGB);
+        int dstFactor = GL11.glGetInteger(GL14.GL_BLEND_DST_RGB);
+        int srcFactorAlpha = GL11.glGetInteger(GL14.GL_BLEND_SRC_ALPHA);
+        int dstFactorAlpha = GL11.glGetInteger(GL14.GL_BLEND_DST_ALPHA);
+
+        if (dirty) {
+            int previousFramebuffer = GL11.glGetInteger(GL30.GL_FRAMEBUFFER_BINDING);
+            GL11.glGetInteger(GL11.GL_VIEWPORT, VIEWPORT);
+
+            framebuffer.framebufferClear();
+            framebuffer.bindFramebuffer(true);
+            capture(draw);
+            OpenGlHelper.glBindFramebuffer(OpenGlHelper.GL_FRAMEBUFFER, previousFramebuffer);
+            GL11.glViewport(VIEWPORT.get(0), VIEWPORT.get(1), VIEWPORT.get(2), VIEWPORT.get(3));
+            dirty = false;
+        }
+
+        composite(mc);
+
+        if (blend) {
+            GlStateManager.enableBlend();
+        } else {
+            GlStateManager.disableBlend();
+        }
+
+        if (alpha) {
+            GlStateManager.enableAlpha();
+        } else {
+            GlStateManager.disableAlpha();
+        }
+
+        GlStateManager.tryBlendFuncSeparate(srcFactor, dstFactor, srcFactorAlpha, dstFactorAlpha);
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void delete() {
+        if (framebuffer != null) {
+            framebuffer.deleteFramebuffer();
+            framebuffer = null;
+        }
+
+        dirty = true;
+    }
+
+    /**
+     * Translucent contents have to accumulate their alpha to be composited correctly. The separate alpha
+     * function is set behind GlStateManager's back, so contents asking for the usual function are skipped by
+     * it's cache and keep accumulating, while contents asking for anything else get exactly what they asked for.
+     */
+    private static void capture(Runnable draw) {
+        GlStateManager.enableBlend();
+        GlStateManager.tryBlendFuncSeparate(770, 771, 1, 0);
+        OpenGlHelper.glBlendFunc(770, 771, 1, 771);
+        draw.run();
+        /* Never what GlStateManager has cached at this point, so GL and it's cache agree again. */
+        GlStateManager.tryBlendFuncSeparate(770, 771, 1, 771);
+    }
+
+    private void composite(Minecraft mc) {
+        /* The exact scaled size, the integer one is rounded up. */
+        int scaleFactor = Crimson.getInstance().getPositionHelper().getScaleFactor();
+        double width = (double) framebuffer.framebufferWidth / scaleFactor;
+        double height = (double) framebuffer.framebufferHeight / scaleFactor;
+        double maxU = (double) framebuffer.framebufferWidth / framebuffer.framebufferTextureWidth;
+        double maxV = (double) framebuffer.framebufferHeight / framebuffer.framebufferTextureHeight;
+
+        GlStateManager.enableTexture2D();
+        GlStateManager.enableBlend();
+        GlStateManager.color(1, 1, 1, 1);
+        /* The framebuffer's colours are already multiplied by their alpha. */
+        GlStateManager.tryBlendFuncSeparate(1, 771, 1, 771);
+        GlStateManager.disableAlpha();
+        framebuffer.bindFramebufferTexture();
+
+        WorldRenderer worldRenderer = Tessellator.getInstance().getWorldRenderer();
+        worldRenderer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_TEX);
+        worldRenderer.pos(0, height, 0).tex(0, 0).endVertex();
+        worldRenderer.pos(width, height, 0).tex(maxU, 0).endVertex();
+        worldRenderer.pos(width, 0, 0).tex(maxU, maxV).endVertex();
+        worldRenderer.pos(0, 0, 0).tex(0, maxV).endVertex();
+        Tessellator.getInstance().draw();
+
+        framebuffer.unbindFramebufferTexture();
+    }
+
+}
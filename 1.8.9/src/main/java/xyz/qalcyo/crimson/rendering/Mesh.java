@@ -0,0 +1,179 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.rendering;
+
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.OpenGlHelper;
+import net.minecraft.client.renderer.vertex.VertexBuffer;
+import net.minecraft.client.renderer.vertex.VertexFormat;
+import net.minecraft.client.renderer.vertex.VertexFormatElement;
+import org.lwjgl.opengl.GL11;
+import xyz.qalcyo.crimson.core.rendering.IMesh;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * A mesh whose packed vertex data is uploaded once, into a vertex buffer when {@link OpenGlHelper#useVbo()}
+ * allows it, otherwise kept in a direct buffer and drawn from client memory.
+ */
+public class Mesh implements IMesh {
+
+    private final VertexFormat format;
+    private final int mode;
+    private final int vertexCount;
+    private VertexBuffer vertexBuffer;
+    private ByteBuffer data;
+
+    /**
+     * @param data The packed vertices, from it's position to it's limit. It's copied, so it can be reused afterwards.
+     */
+    public Mesh(VertexFormat format, int mode, ByteBuffer data) {
+        this.format = format;
+        this.mode = mode;
+        this.vertexCount = data.remaining() / format.getNextOffset();
+        if (OpenGlHelper.useVbo()) {
+            vertexBuffer = new VertexBuffer(format);
+            vertexBuffer.bufferData(data);
+        } else {
+            this.data = GLAllocation.createDirectByteBuffer(data.remaining());
+            this.data.put(data);
+            this.data.flip();
+        }
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public void draw() {
+        if (vertexCount == 0)
+            return;
+
+        if (vertexBuffer != null) {
+            vertexBuffer.bindBuffer();
+            setupPointers(null);
+            vertexBuffer.drawArrays(mode);
+            vertexBuffer.unbindBuffer();
+        } else if (data != null) {
+            setupPointers(data);
+            GL11.glDrawArrays(mode, 0, vertexCount);
+        }
+
+        resetPointers();
+    }
+
+    public void delete() {
+        if (vertexBuffer != null) {
+            vertexBuffer.deleteGlBuffers();
+            vertexBuffer = null;
+        }
+
+        data = null;
+    }
+
+    /**
+     * Points GL at each element of the format, like WorldVertexBufferUploader does.
+     *
+     * @param data The vertices in client memory, or null to use offsets into the bound vertex buffer.
+     */
+    private void setupPointers(ByteBuffer data) {
+        int stride = format.getNextOffset();
+        List<VertexFormatElement> elements = format.getElements();
+        for (int i = 0; i < elements.size(); i++) {
+            VertexFormatElement element = elements.get(i);
+            int offset = format.getOffset(i);
+            int type = element.getType().getGlConstant();
+            if (data != null) {
+                data.position(offset);
+            }
+
+            switch (element.getUsage()) {
+                case POSITION:
+                    if (data == null) {
+                        GL11.glVertexPointer(element.getElementCount(), type, stride, offset);
+                    } else {
+                        GL11.glVertexPointer(element.getElementCount(), type, stride, data);
+                    }
+                    GL11.glEnableClientState(GL11.GL_VERTEX_ARRAY);
+                    break;
+                case NORMAL:
+                    if (data == null) {
+                        GL11.glNormalPointer(type, stride, offset);
+                    } else {
+                        GL11.glNormalPointer(type, stride, data);
+                    }
+                    GL11.glEnableClientState(GL11.GL_NORMAL_ARRAY);
+                    break;
+                case COLOR:
+                    if (data == null) {
+                        GL11.glColorPointer(element.getElementCount(), type, stride, offset);
+                    } else {
+                        GL11.glColorPointer(element.getElementCount(), type, stride, data);
+                    }
+                    GL11.glEnableClientState(GL11.GL_COLOR_ARRAY);
+                    break;
+                case UV:
+                    OpenGlHelper.setClientActiveTexture(OpenGlHelper.defaultTexUnit + element.getIndex());
+                    if (data == null) {
+                        GL11.glTexCoordPointer(element.getElementCount(), type, stride, offset);
+                    } else {
+                        GL11.glTexCoordPointer(element.getElementCount(), type, stride, data);
+                    }
+                    GL11.glEnableClientState(GL11.GL_TEXTURE_COORD_ARRAY);
+                    OpenGlHelper.setClientActiveTexture(OpenGlHelper.defaultTexUnit);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (data != null) {
+            data.position(0);
+        }
+    }
+
+    private void resetPointers() {
+        List<VertexFormatElement> elements = format.getElements();
+        for (VertexFormatElement element : elements) {
+            switch (element.getUsage()) {
+                case POSITION:
+                    GL11.glDisableClientState(GL11.GL_VERTEX_ARRAY);
+                    break;
+                case NORMAL:
+                    GL11.glDisableClientState(GL11.GL_NORMAL_ARRAY);
+                    break;
+                case COLOR:
+                    GL11.glDisableClientState(GL11.GL_COLOR_ARRAY);
+                    /* The colour array leaves GL's current colour behind GlStateManager's back. */
+                    GlStateManager.resetColor();
+                    break;
+                case UV:
+                    OpenGlHelper.setClientActiveTexture(OpenGlHelper.defaultTexUnit + element.getIndex());
+                    GL11.glDisableClientState(GL11.GL_TEXTURE_COORD_ARRAY);
+                    OpenGlHelper.setClientActiveTexture(OpenGlHelper.defaultTexUnit);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+}
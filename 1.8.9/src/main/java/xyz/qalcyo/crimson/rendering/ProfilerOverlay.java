@@ -0,0 +1,95 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.rendering;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.gui.Gui;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import xyz.qalcyo.crimson.Crimson;
+import xyz.qalcyo.crimson.core.rendering.RenderProfiler;
+
+import java.util.Locale;
+
+/**
+ * Marks frame boundaries for the {@link RenderProfiler} and shows it's averages in the top left corner while it's enabled.
+ */
+public class ProfilerOverlay {
+
+    private static final long REFRESH_INTERVAL = 500;
+    private static final RenderProfiler.Section[] SECTIONS = RenderProfiler.Section.values();
+
+    private final Crimson crimson;
+    private final String[] lines = new String[SECTIONS.length + 2];
+    private long lastRefresh;
+    private int width;
+
+    public ProfilerOverlay(Crimson crimson) {
+        this.crimson = crimson;
+        MinecraftForge.EVENT_BUS.register(this);
+    }
+
+    public void render() {
+        RenderProfiler profiler = crimson.getRenderProfiler();
+        FontRenderer fontRenderer = Minecraft.getMinecraft().fontRendererObj;
+        long time = System.currentTimeMillis();
+        if (lines[0] == null || time - lastRefresh >= REFRESH_INTERVAL) {
+            refresh(profiler, fontRenderer);
+            lastRefresh = time;
+        }
+
+        Gui.drawRect(2, 2, 6 + width, 6 + lines.length * (fontRenderer.FONT_HEIGHT + 1), 0x90000000);
+        for (int i = 0; i < lines.length; i++) {
+            fontRenderer.drawString(lines[i], 4, 4 + i * (fontRenderer.FONT_HEIGHT + 1), -1);
+        }
+    }
+
+    /**
+     * Rebuilds the overlay's text, this is only done every {@link #REFRESH_INTERVAL} so it stays readable.
+     */
+    private void refresh(RenderProfiler profiler, FontRenderer fontRenderer) {
+        lines[0] = String.format(Locale.ROOT, "Crimson profiler: %.2f ms/frame over %d frames", profiler.getAverageFrameNanos() / 1e6, profiler.getFrameCount());
+        width = fontRenderer.getStringWidth(lines[0]);
+        for (int i = 0; i < SECTIONS.length; i++) {
+            RenderProfiler.Section section = SECTIONS[i];
+            String line = String.format(Locale.ROOT, "%s: %.3f ms, %d calls, %d draws", section.name().toLowerCase(Locale.ROOT), profiler.getAverageNanos(section) / 1e6, profiler.getLastCalls(section), profiler.getLastDrawCalls(section));
+            if (profiler.isAllocationSupported()) {
+                line += String.format(Locale.ROOT, ", %.1f KB", profiler.getAverageAllocated(section) / 1024d);
+            }
+
+            lines[i + 1] = line;
+            width = Math.max(width, fontRenderer.getStringWidth(line));
+        }
+
+        lines[lines.length - 1] = String.format(Locale.ROOT, "avoided state changes: %d", crimson.getGlHelper().getAvoidedStateChanges());
+        width = Math.max(width, fontRenderer.getStringWidth(lines[lines.length - 1]));
+    }
+
+    @SubscribeEvent
+    public void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            crimson.getRenderProfiler().endFrame();
+        } else if (crimson.getRenderProfiler().isEnabled()) {
+            render();
+        }
+    }
+
+}
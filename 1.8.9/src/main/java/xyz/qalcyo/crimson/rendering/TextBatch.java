@@ -0,0 +1,128 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.rendering;
+
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.WorldRenderer;
+import xyz.qalcyo.crimson.Crimson;
+import xyz.qalcyo.crimson.core.rendering.ITextBatch;
+
+import java.util.Arrays;
+
+/**
+ * Draws every queued string which only uses the ASCII font page in a single tessellator pass, scaling each
+ * one through it's vertices rather than the GL matrix. Strings which can't be drawn that way, such as ones using
+ * obfuscated, strikethrough or underlined text, are drawn by the vanilla renderer after the batch.
+ */
+public class TextBatch implements ITextBatch {
+
+    private final EnhancedFontRenderer renderer;
+
+    private String[] texts = new String[16];
+    private float[] positions = new float[48];
+    private int[] colours = new int[16];
+    private boolean[] shadows = new boolean[16];
+    private int size;
+
+    public TextBatch(EnhancedFontRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    public void add(String text, float x, float y, float scale, int colour, boolean shadow) {
+        if (size == texts.length) {
+            int capacity = size * 2;
+            texts = Arrays.copyOf(texts, capacity);
+            positions = Arrays.copyOf(positions, capacity * 3);
+            colours = Arrays.copyOf(colours, capacity);
+            shadows = Arrays.copyOf(shadows, capacity);
+        }
+
+        texts[size] = text;
+        positions[size * 3] = x;
+        positions[size * 3 + 1] = y;
+        positions[size * 3 + 2] = scale;
+        colours[size] = colour;
+        shadows[size] = shadow;
+        size++;
+    }
+
+    public void addCentered(String text, float x, float y, float scale, int colour, boolean shadow) {
+        add(text, x - renderer.getWidth(text) * scale / 2, y, scale, colour, shadow);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void flush() {
+        if (size == 0)
+            return;
+
+        FontRenderer fontRenderer = renderer.getFontRenderer();
+        Tessellator tessellator = Tessellator.getInstance();
+        WorldRenderer worldRenderer = tessellator.getWorldRenderer();
+        boolean started = false;
+        for (int i = 0; i < size; i++) {
+            String text = Crimson.getInstance().getTextTransformers().apply(texts[i]);
+            if (!renderer.canBatch(fontRenderer, text) || !GlyphRenderer.isFormattingSupported(text))
+                continue;
+
+            if (!started) {
+                GlyphRenderer.begin(worldRenderer);
+                started = true;
+            }
+
+            float x = positions[i * 3];
+            float y = positions[i * 3 + 1];
+            float scale = positions[i * 3 + 2];
+            if (shadows[i]) {
+                GlyphRenderer.text(worldRenderer, fontRenderer, null, text, x, y, scale, colours[i], true);
+            }
+
+            GlyphRenderer.text(worldRenderer, fontRenderer, null, text, x, y, scale, colours[i], false);
+            texts[i] = null;
+        }
+
+        if (started) {
+            tessellator.draw();
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (texts[i] == null)
+                continue;
+
+            float scale = positions[i * 3 + 2];
+            GlStateManager.pushMatrix();
+            GlStateManager.translate(positions[i * 3], positions[i * 3 + 1], 0);
+            GlStateManager.scale(scale, scale, scale);
+            renderer.drawText(texts[i], 0f, 0f, colours[i], shadows[i]);
+            GlStateManager.popMatrix();
+        }
+
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(texts, 0, size, null);
+        size = 0;
+    }
+
+}
@@ -18,17 +18,33 @@
 
 package xyz.qalcyo.crimson.util;
 
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.gui.ScaledResolution;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.lwjgl.opengl.GL11;
+import xyz.qalcyo.crimson.Crimson;
 import xyz.qalcyo.crimson.core.util.IGlHelper;
+import xyz.qalcyo.crimson.core.util.IPositionHelper;
+
+import java.util.Arrays;
 
 public class GlHelper implements IGlHelper {
 
+    /* Nested scissor boxes, already intersected with their parents, stored as left, top, right and bottom. */
+    private double[] scissorStack = new double[32];
+    private int scissorDepth;
+    /* Nested scissor boxes only change the box, the outermost one already enabled the scissor test. */
+    private int avoidedStateChanges;
+    private int avoidedLastFrame;
+
+    public GlHelper() {
+        MinecraftForge.EVENT_BUS.register(this);
+    }
+
     public void startScissorBox(int x, int y, int width, int height) {
         GL11.glPushMatrix();
-        GL11.glEnable(GL11.GL_SCISSOR_TEST);
-        totalScissor(x, y, width, height);
+        pushScissor(x, y, width, height);
     }
 
     public void startScissorBox(float x, float y, float width, float height) {
@@ -36,17 +52,73 @@ public class GlHelper implements IGlHelper {
     }
 
     public void endScissorBox() {
-        GL11.glDisable(GL11.GL_SCISSOR_TEST);
+        popScissor();
         GL11.glPopMatrix();
     }
 
+    public void pushScissor(double x, double y, double width, double height) {
+        double left = x;
+        double top = y;
+        double right = x + Math.max(width, 0);
+        double bottom = y + Math.max(height, 0);
+        if (scissorDepth > 0) {
+            int parent = (scissorDepth - 1) * 4;
+            left = Math.max(left, scissorStack[parent]);
+            top = Math.max(top, scissorStack[parent + 1]);
+            right = Math.max(left, Math.min(right, scissorStack[parent + 2]));
+            bottom = Math.max(top, Math.min(bottom, scissorStack[parent + 3]));
+        }
+
+        if (scissorDepth * 4 == scissorStack.length) {
+            scissorStack = Arrays.copyOf(scissorStack, scissorStack.length * 2);
+        }
+
+        int index = scissorDepth++ * 4;
+        scissorStack[index] = left;
+        scissorStack[index + 1] = top;
+        scissorStack[index + 2] = right;
+        scissorStack[index + 3] = bottom;
+        if (scissorDepth == 1) {
+            setScissor(true);
+        } else {
+            avoidedStateChanges++;
+        }
+
+        totalScissor(left, top, right - left, bottom - top);
+    }
+
+    public void popScissor() {
+        if (scissorDepth == 0)
+            return;
+
+        scissorDepth--;
+        if (scissorDepth == 0) {
+            setScissor(false);
+            return;
+        }
+
+        int index = (scissorDepth - 1) * 4;
+        totalScissor(scissorStack[index], scissorStack[index + 1], scissorStack[index + 2] - scissorStack[index], scissorStack[index + 3] - scissorStack[index + 1]);
+    }
+
+    public int getScissorDepth() {
+        return scissorDepth;
+    }
+
+    public boolean isVisible(double x, double y, double width, double height) {
+        if (scissorDepth == 0)
+            return true;
+
+        int index = (scissorDepth - 1) * 4;
+        return x < scissorStack[index + 2] && x + width > scissorStack[index] && y < scissorStack[index + 3] && y + height > scissorStack[index + 1];
+    }
+
     public void totalScissor(double xPosition, double yPosition, double width, double height) {
-        Minecraft mc = Minecraft.getMinecraft();
-        ScaledResolution scaledResolution = new ScaledResolution(mc);
-        int scaledWidth = scaledResolution.getScaledWidth();
-        int windowWidth = mc.displayWidth;
-        int scaledHeight = scaledResolution.getScaledHeight();
-        int windowHeight = mc.displayHeight;
+        IPositionHelper positionHelper = Crimson.getInstance().getPositionHelper();
+        int windowWidth = positionHelper.getDisplayWidth();
+        int windowHeight = positionHelper.getDisplayHeight();
+        int scaledWidth = positionHelper.getScaledWidth();
+        int scaledHeight = positionHelper.getScaledHeight();
         GL11.glScissor(
                 (int) ((xPosition * windowWidth) / scaledWidth),
                 (int) (((scaledHeight - (yPosition + height)) * windowHeight) / scaledHeight),
@@ -55,4 +127,51 @@ public class GlHelper implements IGlHelper {
         );
     }
 
-}
\ No newline at end of file
+    public void setBlend(boolean enabled) {
+        if (enabled) {
+            GlStateManager.enableBlend();
+        } else {
+            GlStateManager.disableBlend();
+        }
+    }
+
+    public void setTexture2D(boolean enabled) {
+        if (enabled) {
+            GlStateManager.enableTexture2D();
+        } else {
+            GlStateManager.disableTexture2D();
+        }
+    }
+
+    public void setScissor(boolean enabled) {
+        if (enabled) {
+            GL11.glEnable(GL11.GL_SCISSOR_TEST);
+        } else {
+            GL11.glDisable(GL11.GL_SCISSOR_TEST);
+        }
+    }
+
+    public void setColour(float red, float green, float blue, float alpha) {
+        GlStateManager.color(red, green, blue, alpha);
+    }
+
+    public int getAvoidedStateChanges() {
+        return avoidedLastFrame;
+    }
+
+    @SubscribeEvent
+    public void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            /* An unbalanced push would otherwise clip everything drawn afterwards, forever. */
+            if (scissorDepth != 0) {
+                Crimson.getInstance().getLogger().warn("{} scissor box(es) weren't popped by the end of the frame, resetting them.", scissorDepth);
+                scissorDepth = 0;
+                setScissor(false);
+            }
+
+            avoidedLastFrame = avoidedStateChanges;
+            avoidedStateChanges = 0;
+        }
+    }
+
+}
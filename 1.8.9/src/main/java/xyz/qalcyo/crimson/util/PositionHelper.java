@@ -18,11 +18,31 @@
 
 package xyz.qalcyo.crimson.util;
 
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.ScaledResolution;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import xyz.qalcyo.crimson.Crimson;
 import xyz.qalcyo.crimson.core.util.IPositionHelper;
 import xyz.qalcyo.crimson.data.ScreenPosition;
 
 public class PositionHelper implements IPositionHelper {
 
+    /* The inputs of the last snapshot, it's only recalculated when one of them changes. */
+    private int displayWidth = -1;
+    private int displayHeight = -1;
+    private int guiScale = -1;
+    private boolean unicode;
+
+    private int scaledWidth;
+    private int scaledHeight;
+    private int scaleFactor;
+
+    public PositionHelper() {
+        MinecraftForge.EVENT_BUS.register(this);
+    }
+
     public ScreenPosition createDefaultPosition() {
         return ScreenPosition.fromRaw(30, 30);
     }
@@ -31,4 +51,64 @@ public class PositionHelper implements IPositionHelper {
         return ScreenPosition.fromRaw(x, y);
     }
 
-}
\ No newline at end of file
+    public int getDisplayWidth() {
+        ensureCaptured();
+        return displayWidth;
+    }
+
+    public int getDisplayHeight() {
+        ensureCaptured();
+        return displayHeight;
+    }
+
+    public int getScaledWidth() {
+        ensureCaptured();
+        return scaledWidth;
+    }
+
+    public int getScaledHeight() {
+        ensureCaptured();
+        return scaledHeight;
+    }
+
+    public int getScaleFactor() {
+        ensureCaptured();
+        return scaleFactor;
+    }
+
+    /**
+     * Captures the scaled resolution if the window size, GUI scale or Unicode font setting has changed since the last snapshot.
+     */
+    public void update() {
+        Minecraft mc = Minecraft.getMinecraft();
+        if (mc.displayWidth == displayWidth && mc.displayHeight == displayHeight && mc.gameSettings.guiScale == guiScale && mc.isUnicode() == unicode)
+            return;
+
+        boolean captured = displayWidth != -1;
+        ScaledResolution resolution = new ScaledResolution(mc);
+        displayWidth = mc.displayWidth;
+        displayHeight = mc.displayHeight;
+        guiScale = mc.gameSettings.guiScale;
+        unicode = mc.isUnicode();
+        scaledWidth = resolution.getScaledWidth();
+        scaledHeight = resolution.getScaledHeight();
+        scaleFactor = resolution.getScaleFactor();
+        if (captured) {
+            Crimson.getInstance().getInternalEventManager().handleWindowResize(displayWidth, displayHeight, scaledWidth, scaledHeight, scaleFactor);
+        }
+    }
+
+    private void ensureCaptured() {
+        if (displayWidth == -1) {
+            update();
+        }
+    }
+
+    @SubscribeEvent
+    public void onRenderTick(TickEvent.RenderTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            update();
+        }
+    }
+
+}
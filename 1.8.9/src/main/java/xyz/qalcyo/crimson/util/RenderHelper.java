@@ -18,27 +18,44 @@
 
 package xyz.qalcyo.crimson.util;
 
-import net.minecraft.client.gui.Gui;
 import net.minecraft.client.renderer.GlStateManager;
-import net.minecraft.client.renderer.Tessellator;
-import net.minecraft.client.renderer.WorldRenderer;
-import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
-import org.lwjgl.opengl.GL11;
+import xyz.qalcyo.crimson.Crimson;
+import xyz.qalcyo.crimson.core.data.PackedColour;
+import xyz.qalcyo.crimson.core.rendering.IBatch2D;
 import xyz.qalcyo.crimson.core.util.IRenderHelper;
+import xyz.qalcyo.crimson.rendering.ArcMeshCache;
+import xyz.qalcyo.crimson.rendering.Batch2D;
+import xyz.qalcyo.crimson.rendering.LayerCache;
 
 import java.awt.*;
 
 public class RenderHelper implements IRenderHelper {
 
+    private final Batch2D batch = new Batch2D();
+    private final ArcMeshCache arcMeshes = new ArcMeshCache();
+
+    public Batch2D createBatch() {
+        return new Batch2D();
+    }
+
+    public LayerCache createLayerCache() {
+        return new LayerCache();
+    }
+
     public void drawRoundedRect(int x, int y, int width, int height, int cornerRadius, int colour) {
-        Gui.drawRect(x, y + cornerRadius, x + cornerRadius, y + height - cornerRadius, colour);
-        Gui.drawRect(x + cornerRadius, y, x + width - cornerRadius, y + height, colour);
-        Gui.drawRect(x + width - cornerRadius, y + cornerRadius, x + width, y + height - cornerRadius, colour);
-
-        drawArc(x + cornerRadius, y + cornerRadius, cornerRadius, 0, 90, colour);
-        drawArc(x + width - cornerRadius, y + cornerRadius, cornerRadius, 270, 360, colour);
-        drawArc(x + width - cornerRadius, y + height - cornerRadius, cornerRadius, 180, 270, colour);
-        drawArc(x + cornerRadius, y + height - cornerRadius, cornerRadius, 90, 180, colour);
+        drawRoundedRect(batch, x, y, width, height, cornerRadius, colour);
+        batch.flush();
+    }
+
+    public void drawRoundedRect(IBatch2D batch, int x, int y, int width, int height, int cornerRadius, int colour) {
+        drawRect(batch, x, y + cornerRadius, x + cornerRadius, y + height - cornerRadius, colour);
+        drawRect(batch, x + cornerRadius, y, x + width - cornerRadius, y + height, colour);
+        drawRect(batch, x + width - cornerRadius, y + cornerRadius, x + width, y + height - cornerRadius, colour);
+
+        batch.arc(x + cornerRadius, y + cornerRadius, cornerRadius, 0, 90, colour);
+        batch.arc(x + width - cornerRadius, y + cornerRadius, cornerRadius, 270, 360, colour);
+        batch.arc(x + width - cornerRadius, y + height - cornerRadius, cornerRadius, 180, 270, colour);
+        batch.arc(x + cornerRadius, y + height - cornerRadius, cornerRadius, 90, 180, colour);
     }
 
     public void drawHollowRoundedRect(int x, int y, int width, int height, int thickness, int colour) {
@@ -54,108 +71,64 @@ public class RenderHelper implements IRenderHelper {
     }
 
     public void drawArc(int x, int y, int radius, int start, int end, Color colour) {
-        GL11.glPushMatrix();
-        GL11.glEnable(3042);
-        GL11.glDisable(3553);
-        GL11.glBlendFunc(770, 771);
-        GL11.glColor4f((float) colour.getRed() / 255, (float) colour.getGreen() / 255, (float) colour.getBlue() / 255, (float) colour.getAlpha() / 255);
-        WorldRenderer worldRenderer = Tessellator.getInstance().getWorldRenderer();
-        worldRenderer.begin(6, DefaultVertexFormats.POSITION);
-        worldRenderer.pos(x, y, 0).endVertex();
-        for (int i = (int) (start / 360.0 * 100); i <= (int) (end / 360.0 * 100); i++) {
-            double angle = (Math.PI * 2 * i / 100) + Math.toRadians(180);
-            worldRenderer.pos(x + Math.sin(angle) * radius, y + Math.cos(angle) * radius, 0).endVertex();
-        }
-        Tessellator.getInstance().draw();
-        GL11.glEnable(3553);
-        GL11.glDisable(3042);
-        GL11.glPopMatrix();
+        batch.arc(x, y, radius, start, end, colour.getRGB());
+        batch.flush();
     }
 
     public void drawArc(int x, int y, int radius, int start, int end, int colour) {
-        drawArc(x, y, radius, start, end, new Color(colour));
+        /* Matches the Color overload, which ignores the alpha of packed colours. */
+        batch.arc(x, y, radius, start, end, colour | 0xFF000000);
+        batch.flush();
     }
 
     public void drawHollowArc(int x, int y, int radius, int start, int end, int thickness, Color colour) {
-        radius -= thickness / 2;
-        x += thickness / 2;
-        y += thickness / 2;
-        GL11.glEnable(GL11.GL_BLEND);
-        GL11.glDisable(GL11.GL_TEXTURE_2D);
-        GL11.glEnable(GL11.GL_LINE_SMOOTH);
-        GL11.glBlendFunc(770, 771);
-        GL11.glLineWidth((float) thickness);
-        GL11.glColor4d(colour.getRed() / 255.0, colour.getGreen() / 255.0, colour.getBlue() / 255.0, colour.getAlpha() / 255.0);
-        GL11.glBegin(GL11.GL_LINE_STRIP);
-        for (double i = start; i <= end; i += 1) GL11.glVertex2d(x + radius + Math.sin(Math.toRadians(i)) * radius, y + radius + Math.cos(Math.toRadians(i)) * radius);
-        GL11.glEnd();
-        GL11.glDisable(GL11.GL_LINE_SMOOTH);
-        GL11.glEnable(GL11.GL_TEXTURE_2D);
-        GL11.glLineWidth(1);
+        drawHollowArcPacked(x, y, radius, start, end, thickness, colour.getRGB());
     }
 
     public void drawHollowArc(int x, int y, int radius, int start, int end, int thickness, int colour) {
-        drawHollowArc(x, y, radius, start, end, thickness, new Color(colour));
+        /* Packed colours were always drawn opaque here, new Color(int) dropped their alpha. */
+        drawHollowArcPacked(x, y, radius, start, end, thickness, colour | 0xFF000000);
     }
 
-    public void drawRect(int left, int top, int right, int bottom, int color) {
-        if (left < right) {
-            int i = left;
-            left = right;
-            right = i;
-        }
-        if (top < bottom) {
-            int j = top;
-            top = bottom;
-            bottom = j;
-        }
-        float f3 = (float) (color >> 24 & 255) / 255.0F;
-        float f = (float) (color >> 16 & 255) / 255.0F;
-        float f1 = (float) (color >> 8 & 255) / 255.0F;
-        float f2 = (float) (color & 255) / 255.0F;
-        Tessellator tessellator = Tessellator.getInstance();
-        WorldRenderer worldrenderer = tessellator.getWorldRenderer();
+    private void drawHollowArcPacked(int x, int y, int radius, int start, int end, int thickness, int colour) {
+        radius -= thickness / 2;
+        x += thickness / 2;
+        y += thickness / 2;
         GlStateManager.enableBlend();
         GlStateManager.disableTexture2D();
         GlStateManager.tryBlendFuncSeparate(770, 771, 1, 0);
-        GlStateManager.color(f, f1, f2, f3);
-        worldrenderer.begin(7, DefaultVertexFormats.POSITION);
-        worldrenderer.pos(left, bottom, 0.0D).endVertex();
-        worldrenderer.pos(right, bottom, 0.0D).endVertex();
-        worldrenderer.pos(right, top, 0.0D).endVertex();
-        worldrenderer.pos(left, top, 0.0D).endVertex();
-        tessellator.draw();
+        GlStateManager.color(PackedColour.red(colour) / 255f, PackedColour.green(colour) / 255f, PackedColour.blue(colour) / 255f, PackedColour.alpha(colour) / 255f);
+        GlStateManager.pushMatrix();
+        GlStateManager.translate(x + radius, y + radius, 0);
+        arcMeshes.drawHollowArc(radius, start, end, thickness, Crimson.getInstance().getPositionHelper().getScaleFactor());
+        GlStateManager.popMatrix();
         GlStateManager.enableTexture2D();
         GlStateManager.disableBlend();
     }
 
+    public void drawRect(int left, int top, int right, int bottom, int color) {
+        drawRect(batch, left, top, right, bottom, color);
+        batch.flush();
+    }
+
     public void drawRectEnhanced(int x, int y, int width, int height, int color) {
-        Gui.drawRect(x, y, width + x, height + y, color);
+        drawRectEnhanced(batch, x, y, width, height, color);
+        batch.flush();
     }
 
     public void drawHollowRect(int x, int y, int width, int height, int thickness, int colour) {
-        drawHorizontalLine(x, x + width, y, thickness, colour);
-        drawHorizontalLine(x, x + width, y + height, thickness, colour);
-        drawVerticalLine(x, y + height, y, thickness, colour);
-        drawVerticalLine(x + width, y + height, y, thickness, colour);
+        drawHollowRect(batch, x, y, width, height, thickness, colour);
+        batch.flush();
     }
 
     public void drawHorizontalLine(int start, int end, int y, int thickness, int colour) {
-        if (end < start) {
-            int i = start;
-            start = end;
-            end = i;
-        }
-        drawRect(start, y, end + thickness, y + thickness, colour);
+        drawHorizontalLine(batch, start, end, y, thickness, colour);
+        batch.flush();
     }
 
     public void drawVerticalLine(int x, int start, int end, int thickness, int colour) {
-        if (end < start) {
-            int i = start;
-            start = end;
-            end = i;
-        }
-        drawRect(x, start + thickness, x + thickness, end, colour);
+        drawVerticalLine(batch, x, start, end, thickness, colour);
+        batch.flush();
     }
 
-}
\ No newline at end of file
+}
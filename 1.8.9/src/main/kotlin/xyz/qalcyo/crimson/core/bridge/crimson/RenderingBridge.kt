@@ -19,50 +19,103 @@
 package xyz.qalcyo.crimson.core.bridge.crimson
 
 import net.minecraft.client.renderer.Tessellator
+import net.minecraft.client.renderer.WorldRenderer
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats
+import net.minecraft.client.renderer.vertex.VertexFormat
+import xyz.qalcyo.crimson.core.rendering.IMesh
 import xyz.qalcyo.crimson.core.util.VertexFormats
+import xyz.qalcyo.crimson.rendering.Mesh
 
 class RenderingBridge : IRenderingBridge {
 
     val tessellator by lazy { Tessellator.getInstance() }
     val renderer by lazy { tessellator.worldRenderer }
 
+    /* Meshes are built in their own buffer, which is reused for every mesh. */
+    private val meshRenderer by lazy { WorldRenderer(262144) }
+    private var meshMode = 0
+    private var target: WorldRenderer? = null
+
     override fun initialize() {
     }
 
     override fun draw() = tessellator.draw()
 
     override fun begin(glMode: Int, vertexFormat: VertexFormats) {
-        val format = when (vertexFormat) {
-            VertexFormats.POSITION -> DefaultVertexFormats.POSITION
-            VertexFormats.POSITION_TEXTURE -> DefaultVertexFormats.POSITION_TEX
-            VertexFormats.POSITION_COLOR -> DefaultVertexFormats.POSITION_COLOR
-            VertexFormats.POSITION_COLOR_TEXTURE -> DefaultVertexFormats.POSITION_TEX_COLOR
-        }
-
-        renderer.begin(glMode, format)
+        renderer.begin(glMode, convert(vertexFormat))
+    }
+
+    override fun beginMesh(glMode: Int, vertexFormat: VertexFormats) {
+        meshMode = glMode
+        meshRenderer.begin(glMode, convert(vertexFormat))
+        target = meshRenderer
     }
 
-    override fun end() = renderer.endVertex()
-    override fun nextVertex() = renderer.endVertex()
+    override fun endMesh(): IMesh {
+        target = null
+        meshRenderer.finishDrawing()
+        val mesh = Mesh(meshRenderer.vertexFormat, meshMode, meshRenderer.byteBuffer)
+        meshRenderer.reset()
+        return mesh
+    }
+
+    private fun convert(vertexFormat: VertexFormats): VertexFormat = when (vertexFormat) {
+        VertexFormats.POSITION -> DefaultVertexFormats.POSITION
+        VertexFormats.POSITION_TEXTURE -> DefaultVertexFormats.POSITION_TEX
+        VertexFormats.POSITION_COLOR -> DefaultVertexFormats.POSITION_COLOR
+        VertexFormats.POSITION_COLOR_TEXTURE -> DefaultVertexFormats.POSITION_TEX_COLOR
+        VertexFormats.POSITION_NORMAL -> DefaultVertexFormats.POSITION_NORMAL
+        VertexFormats.POSITION_TEXTURE_NORMAL -> DefaultVertexFormats.POSITION_TEX_NORMAL
+        VertexFormats.POSITION_COLOR_TEXTURE_NORMAL -> DefaultVertexFormats.POSITION_TEX_COLOR_NORMAL
+        VertexFormats.POSITION_TEXTURE_LIGHTMAP_COLOR -> DefaultVertexFormats.POSITION_TEX_LMAP_COLOR
+        VertexFormats.POSITION_COLOR_TEXTURE_LIGHTMAP -> DefaultVertexFormats.BLOCK
+    }
+
+    override fun end() = (target ?: renderer).endVertex()
+    override fun nextVertex() = (target ?: renderer).endVertex()
 
     override fun pos(x: Number, y: Number, z: Number): IRenderingBridge {
-        renderer.pos(x.toDouble(), y.toDouble(), z.toDouble())
+        (target ?: renderer).pos(x.toDouble(), y.toDouble(), z.toDouble())
         return this
     }
 
     override fun tex(u: Number, v: Number): IRenderingBridge {
-        renderer.tex(u.toDouble(), v.toDouble())
+        (target ?: renderer).tex(u.toDouble(), v.toDouble())
         return this
     }
 
     override fun col(r: Int, g: Int, b: Int, a: Int): IRenderingBridge {
-        renderer.color(r, g, b, a)
+        (target ?: renderer).color(r, g, b, a)
         return this
     }
 
     override fun col(r: Float, g: Float, b: Float, a: Float): IRenderingBridge {
-        renderer.color(r, g, b, a)
+        (target ?: renderer).color(r, g, b, a)
+        return this
+    }
+
+    override fun pos(x: Double, y: Double, z: Double): IRenderingBridge {
+        (target ?: renderer).pos(x, y, z)
+        return this
+    }
+
+    override fun tex(u: Double, v: Double): IRenderingBridge {
+        (target ?: renderer).tex(u, v)
+        return this
+    }
+
+    override fun col(argb: Int): IRenderingBridge {
+        (target ?: renderer).color(argb shr 16 and 255, argb shr 8 and 255, argb and 255, argb ushr 24)
+        return this
+    }
+
+    override fun normal(x: Float, y: Float, z: Float): IRenderingBridge {
+        (target ?: renderer).normal(x, y, z)
+        return this
+    }
+
+    override fun lightmap(sky: Int, block: Int): IRenderingBridge {
+        (target ?: renderer).lightmap(sky, block)
         return this
     }
-}
\ No newline at end of file
+}
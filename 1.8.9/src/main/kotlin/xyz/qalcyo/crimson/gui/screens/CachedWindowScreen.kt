@@ -0,0 +1,80 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.gui.screens
+
+import gg.essential.elementa.ElementaVersion
+import gg.essential.elementa.WindowScreen
+import gg.essential.universal.UKeyboard
+import gg.essential.universal.UMatrixStack
+import xyz.qalcyo.crimson.core.rendering.SettledLayer
+
+/**
+ * A [WindowScreen] which is composited from a cached layer once it hasn't been interacted with for a second.
+ */
+abstract class CachedWindowScreen(
+    version: ElementaVersion,
+    restoreCurrentGuiOnClose: Boolean = false
+) : WindowScreen(
+    version,
+    restoreCurrentGuiOnClose = restoreCurrentGuiOnClose
+) {
+
+    private val layer = SettledLayer()
+
+    override fun initScreen(width: Int, height: Int) {
+        super.initScreen(width, height)
+        layer.input()
+    }
+
+    override fun onDrawScreen(matrixStack: UMatrixStack, mouseX: Int, mouseY: Int, partialTicks: Float) {
+        layer.draw(mouseX, mouseY) {
+            super.onDrawScreen(matrixStack, mouseX, mouseY, partialTicks)
+        }
+    }
+
+    override fun onMouseClicked(mouseX: Double, mouseY: Double, mouseButton: Int) {
+        super.onMouseClicked(mouseX, mouseY, mouseButton)
+        layer.input()
+    }
+
+    override fun onMouseReleased(mouseX: Double, mouseY: Double, state: Int) {
+        super.onMouseReleased(mouseX, mouseY, state)
+        layer.input()
+    }
+
+    override fun onMouseScrolled(delta: Double) {
+        super.onMouseScrolled(delta)
+        layer.input()
+    }
+
+    override fun onKeyPressed(keyCode: Int, typedChar: Char, modifiers: UKeyboard.Modifiers?) {
+        super.onKeyPressed(keyCode, typedChar, modifiers)
+        layer.input()
+    }
+
+    override fun onScreenClose() {
+        super.onScreenClose()
+        layer.delete()
+    }
+
+    /**
+     * Forces the screen to be redrawn, for changes which don't come from input.
+     */
+    fun markDirty() = layer.input()
+}
@@ -19,7 +19,6 @@
 package xyz.qalcyo.crimson.gui.screens
 
 import gg.essential.elementa.ElementaVersion
-import gg.essential.elementa.WindowScreen
 import gg.essential.elementa.constraints.CenterConstraint
 import gg.essential.elementa.constraints.RelativeConstraint
 import gg.essential.elementa.dsl.*
@@ -29,7 +28,7 @@ import okhttp3.Request
 import xyz.qalcyo.crimson.Crimson
 import xyz.qalcyo.crimson.core.CrimsonConstants
 
-class ChangelogMenu : WindowScreen(
+class ChangelogMenu : CachedWindowScreen(
     ElementaVersion.V1,
     restoreCurrentGuiOnClose = true
 ) {
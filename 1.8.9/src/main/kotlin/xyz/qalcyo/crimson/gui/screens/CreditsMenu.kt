@@ -19,7 +19,6 @@
 package xyz.qalcyo.crimson.gui.screens
 
 import gg.essential.elementa.ElementaVersion
-import gg.essential.elementa.WindowScreen
 import gg.essential.elementa.components.*
 import gg.essential.elementa.constraints.*
 import gg.essential.elementa.dsl.*
@@ -34,7 +33,7 @@ import xyz.qalcyo.crimson.core.gui.components.InteractableText
 import xyz.qalcyo.crimson.core.gui.components.builders.ButtonBuilder
 import java.net.URI
 
-class CreditsMenu : WindowScreen(
+class CreditsMenu : CachedWindowScreen(
     ElementaVersion.V1,
     restoreCurrentGuiOnClose = true
 ) {
@@ -28,7 +28,9 @@ import xyz.qalcyo.crimson.core.transformers.hooks.GuiMixinHook
 class GuiControlsHook(
     instance: GuiControls
 ) : GuiMixinHook<GuiControls>(
-    instance
+    instance,
+    /* A single button is cheaper to draw than the cached layer is to composite. */
+    false
 ) {
     init {
         if (Crimson.getInstance().configManager.menu.isKeyBindsButton) {
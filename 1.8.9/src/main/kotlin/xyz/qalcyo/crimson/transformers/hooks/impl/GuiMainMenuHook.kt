@@ -27,7 +27,9 @@ import xyz.qalcyo.crimson.core.gui.components.InteractableText
 class GuiMainMenuHook(
     instance: GuiMainMenu
 ) : GuiMixinHook<GuiMainMenu>(
-    instance
+    instance,
+    /* A single line of text is cheaper to draw than the cached layer is to composite. */
+    false
 ) {
     init {
         val brandingText = InteractableText("${Crimson.getInstance().name()} v${Crimson.getInstance().version()}", true, InteractableText.Alignment.RIGHT, {
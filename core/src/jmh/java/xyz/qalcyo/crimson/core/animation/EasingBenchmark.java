@@ -0,0 +1,86 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+package xyz.qalcyo.crimson.core.animation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares computing the expensive curves directly with interpolating their tables.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EasingBenchmark {
+
+    /* Enough progress values to keep the branches of the piecewise curves unpredictable. */
+    private static final int SAMPLES = 1024;
+
+    @Param({"IN_OUT_BACK", "OUT_ELASTIC", "IN_OUT_ELASTIC", "OUT_BOUNCE", "IN_OUT_CUBIC"})
+    public EasingType type;
+
+    private Easing table;
+    private final double[] progress = new double[SAMPLES];
+
+    @Setup
+    public void setup() {
+        table = type.tabulated();
+        for (int i = 0; i < SAMPLES; i++) {
+            /* Spread over the curve without landing on the table's samples. */
+            progress[i] = ((i * 7919L) % SAMPLES + 0.37) / SAMPLES;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public double analytic() {
+        double sum = 0;
+        for (double t : progress) {
+            sum += type.ease(t);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public double tabulated() {
+        double sum = 0;
+        for (double t : progress) {
+            sum += table.ease(t);
+        }
+
+        return sum;
+    }
+
+}
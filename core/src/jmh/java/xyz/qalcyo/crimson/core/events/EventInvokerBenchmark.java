@@ -0,0 +1,105 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+package xyz.qalcyo.crimson.core.events;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.qalcyo.eventbus.QalcyoEventBus;
+import xyz.qalcyo.eventbus.SubscribeEvent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares dispatching to a subscriber through a compiled {@link EventInvoker} with the reflective
+ * {@link Method#invoke(Object, Object...)} path it replaced, and with calling the subscriber directly.
+ * Posting is compared with the same subscriber registered on a plain {@link QalcyoEventBus}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventInvokerBenchmark {
+
+    private final Listener listener = new Listener();
+    private final RenderTickEvent event = new RenderTickEvent(0.5f);
+    private final CrimsonEventBus bus = new CrimsonEventBus();
+    private final QalcyoEventBus baselineBus = new QalcyoEventBus();
+    private Method method;
+    private EventInvoker invoker;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        method = Listener.class.getMethod("onRenderTick", RenderTickEvent.class);
+        method.setAccessible(true);
+        invoker = EventInvokers.compile(method);
+        bus.register(listener);
+        baselineBus.register(listener);
+    }
+
+    @Benchmark
+    public void direct(Blackhole blackhole) {
+        listener.onRenderTick(event);
+        blackhole.consume(listener.ticks);
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        invoker.invoke(listener, event);
+        blackhole.consume(listener.ticks);
+    }
+
+    @Benchmark
+    public void reflective(Blackhole blackhole) throws ReflectiveOperationException {
+        method.invoke(listener, event);
+        blackhole.consume(listener.ticks);
+    }
+
+    @Benchmark
+    public void post(Blackhole blackhole) {
+        bus.post(event);
+        blackhole.consume(listener.ticks);
+    }
+
+    @Benchmark
+    public void postBaseline(Blackhole blackhole) {
+        baselineBus.post(event);
+        blackhole.consume(listener.ticks);
+    }
+
+    public static class Listener {
+        private int ticks;
+
+        @SubscribeEvent
+        public void onRenderTick(RenderTickEvent event) {
+            ticks++;
+        }
+    }
+
+}
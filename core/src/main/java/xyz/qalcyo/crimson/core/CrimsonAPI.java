@@ -21,7 +21,9 @@ package xyz.qalcyo.crimson.core;
 import com.besaba.revonline.pastebinapi.impl.factory.PastebinFactory;
 import okhttp3.OkHttpClient;
 import org.apache.logging.log4j.Logger;
+import xyz.qalcyo.crimson.core.animation.AnimationScheduler;
 import xyz.qalcyo.crimson.core.compatibility.CrimsonTransmission;
+import xyz.qalcyo.crimson.core.events.CrimsonEventBus;
 import xyz.qalcyo.crimson.core.gui.screens.main.CrimsonMenuPage;
 import xyz.qalcyo.crimson.core.gui.screens.main.impl.CrimsonControlsPage;
 import xyz.qalcyo.crimson.core.networking.CrimsonClientSocket;
@@ -44,6 +46,8 @@ import xyz.qalcyo.crimson.core.integration.hypixel.HypixelHelper;
 import xyz.qalcyo.crimson.core.integration.mods.IModIntegration;
 import xyz.qalcyo.crimson.core.notifications.INotifications;
 import xyz.qalcyo.crimson.core.rendering.IEnhancedFontRenderer;
+import xyz.qalcyo.crimson.core.rendering.RenderProfiler;
+import xyz.qalcyo.crimson.core.rendering.TextTransformers;
 import xyz.qalcyo.json.util.JsonApiHelper;
 import xyz.qalcyo.crimson.core.gui.factory.IComponentFactory;
 
@@ -109,10 +113,19 @@ public interface CrimsonAPI extends IMod {
      * Provides an instance of Crimson's {@link QalcyoEventBus}.
      *
      * @return Crimson's event bus.
+     * @see #getCrimsonEventBus()
      */
     default QalcyoEventBus getEventBus() {
         return CrimsonDefaultImplementations.EVENT_BUS;
     }
+    /**
+     * Provides the same event bus as {@link #getEventBus()}, typed to allow checking which events have subscribers.
+     *
+     * @return Crimson's event bus.
+     */
+    default CrimsonEventBus getCrimsonEventBus() {
+        return CrimsonDefaultImplementations.EVENT_BUS;
+    }
 
     /**
      * Provides an instance of Crimson's file and directory manager.
@@ -233,6 +246,32 @@ public interface CrimsonAPI extends IMod {
      * @return Crimson's enhanced font renderer utility.
      */
     IEnhancedFontRenderer getEnhancedFontRenderer();
+    /**
+     * Provides an instance of Crimson's text transformer chain, applied to all text drawn or measured by the game.
+     *
+     * @return Crimson's text transformer chain.
+     */
+    default TextTransformers getTextTransformers() {
+        return CrimsonDefaultImplementations.TEXT_TRANSFORMERS;
+    }
+
+    /**
+     * Provides an instance of Crimson's render profiler, which records the cost of Crimson's own rendering.
+     *
+     * @return Crimson's render profiler.
+     */
+    default RenderProfiler getRenderProfiler() {
+        return CrimsonDefaultImplementations.RENDER_PROFILER;
+    }
+
+    /**
+     * Provides an instance of Crimson's animation scheduler, which drives tweens at the same speed regardless of frame rate.
+     *
+     * @return Crimson's animation scheduler.
+     */
+    default AnimationScheduler getAnimationScheduler() {
+        return CrimsonDefaultImplementations.ANIMATION_SCHEDULER;
+    }
     /**
      * Provides an instance of Crimson's GUI utility, allowing you to open GUIs easily.
      *
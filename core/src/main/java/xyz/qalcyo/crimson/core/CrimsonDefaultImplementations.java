@@ -22,9 +22,12 @@ import com.besaba.revonline.pastebinapi.impl.factory.PastebinFactory;
 import okhttp3.OkHttpClient;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import xyz.qalcyo.crimson.core.animation.AnimationScheduler;
 import xyz.qalcyo.crimson.core.compatibility.CrimsonTransmission;
-import xyz.qalcyo.eventbus.QalcyoEventBus;
+import xyz.qalcyo.crimson.core.events.CrimsonEventBus;
 import xyz.qalcyo.crimson.core.integration.hypixel.HypixelHelper;
+import xyz.qalcyo.crimson.core.rendering.RenderProfiler;
+import xyz.qalcyo.crimson.core.rendering.TextTransformers;
 import xyz.qalcyo.crimson.core.util.*;
 
 /**
@@ -35,12 +38,15 @@ class CrimsonDefaultImplementations {
     static final Logger LOGGER = LogManager.getLogger("Crimson");
     static final CrimsonJavaArguments JAVA_ARGUMENTS = new CrimsonJavaArguments();
     static final CrimsonTransmission TRANSMISSION = new CrimsonTransmission();
-    static final QalcyoEventBus EVENT_BUS = new QalcyoEventBus();
+    static final CrimsonEventBus EVENT_BUS = new CrimsonEventBus();
     static final OkHttpClient HTTP_CLIENT = new OkHttpClient();
     static final PastebinFactory PASTEBIN_FACTORY = new PastebinFactory();
+    static final TextTransformers TEXT_TRANSFORMERS = new TextTransformers();
+    static final RenderProfiler RENDER_PROFILER = new RenderProfiler();
+    static final AnimationScheduler ANIMATION_SCHEDULER = new AnimationScheduler();
 
     static final ModHelper MOD_HELPER = new ModHelper();
-    static final ColourHelper COLOUR_HELPER = new ColourHelper();
+    static final ColourHelper COLOUR_HELPER = new ColourHelper(JAVA_ARGUMENTS.getChromaResolution());
     static final LoggingHelper LOGGING_HELPER = new LoggingHelper();
     static final UniversalLogger UNIVERSAL_LOGGER = new UniversalLogger();
     static final ClipboardHelper CLIPBOARD_HELPER = new ClipboardHelper();
@@ -30,6 +30,9 @@ public class CrimsonJavaArguments {
     private static final Pattern booleanPattern = Pattern.compile("true|false", Pattern.CASE_INSENSITIVE);
 
     private final boolean socketDebug = retrieveSocketDebug();
+    private final boolean eventReuse = retrieveEventReuse();
+    private final boolean fontAtlas = retrieveFontAtlas();
+    private final int chromaResolution = retrieveChromaResolution();
     private final String socketUri = System.getProperty("crimson.socket.uri", null);
     private final String metaUrl = System.getProperty("crimson.meta.url", "https://raw.githubusercontent.com/Qalcyo/DataStorage/master/crimson/meta.json");
 
@@ -42,6 +45,27 @@ public class CrimsonJavaArguments {
         return socketDebug;
     }
 
+    /**
+     * @return Whether Crimson reuses the same instances of it's frame-rate events. (tick, render tick and HUD render)
+     */
+    public boolean isEventReuse() {
+        return eventReuse;
+    }
+
+    /**
+     * @return Whether Crimson draws scaled text from it's distance field font atlas.
+     */
+    public boolean isFontAtlas() {
+        return fontAtlas;
+    }
+
+    /**
+     * @return The amount of hues in Crimson's chroma lookup table.
+     */
+    public int getChromaResolution() {
+        return chromaResolution;
+    }
+
     /**
      * @return Crimson's Socket URI.
      */
@@ -73,6 +97,41 @@ public class CrimsonJavaArguments {
         return Boolean.parseBoolean(property);
     }
 
+    /**
+     * @return Crimson's event reuse state.
+     */
+    private static boolean retrieveEventReuse() {
+        String property = System.getProperty("crimson.events.reuse", "true");
+        if (!booleanPattern.matcher(property).matches())
+            throw new IllegalArgumentException("JVM property 'crimson.events.reuse' must be a boolean!");
+        return Boolean.parseBoolean(property);
+    }
+
+    /**
+     * @return Crimson's font atlas state.
+     */
+    private static boolean retrieveFontAtlas() {
+        String property = System.getProperty("crimson.font.atlas", "false");
+        if (!booleanPattern.matcher(property).matches())
+            throw new IllegalArgumentException("JVM property 'crimson.font.atlas' must be a boolean!");
+        return Boolean.parseBoolean(property);
+    }
+
+    /**
+     * @return Crimson's chroma lookup table resolution.
+     */
+    private static int retrieveChromaResolution() {
+        String property = System.getProperty("crimson.chroma.resolution", "1024");
+        try {
+            int resolution = Integer.parseInt(property);
+            if (resolution > 0)
+                return resolution;
+        } catch (NumberFormatException ignored) {
+        }
+
+        throw new IllegalArgumentException("JVM property 'crimson.chroma.resolution' must be a positive integer!");
+    }
+
     /**
      * @return Crimson's chat prefix colour.
      */
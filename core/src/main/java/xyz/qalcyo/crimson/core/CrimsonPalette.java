@@ -41,6 +41,13 @@ public class CrimsonPalette {
         return primary;
     }
 
+    /**
+     * @return Qalcyo's theme colour, packed as an ARGB integer.
+     */
+    public static int getPrimaryRGBA() {
+        return primary.getRGBA();
+    }
+
     /**
      * Provides a ColourRGB instance of Qalcyo's background colour.
      *
@@ -50,6 +57,13 @@ public class CrimsonPalette {
         return secondary;
     }
 
+    /**
+     * @return Qalcyo's background colour, packed as an ARGB integer.
+     */
+    public static int getSecondaryRGBA() {
+        return secondary.getRGBA();
+    }
+
     /**
      * Provides a ColourRGB instance of Qalcyo's tertiary colour.
      *
@@ -59,6 +73,13 @@ public class CrimsonPalette {
         return tertiary;
     }
 
+    /**
+     * @return Qalcyo's tertiary colour, packed as an ARGB integer.
+     */
+    public static int getTertiaryRGBA() {
+        return tertiary.getRGBA();
+    }
+
     /**
      * Provides a ColourRGB instance of the colour Qalcyo uses to indicate success.
      *
@@ -68,6 +89,13 @@ public class CrimsonPalette {
         return success;
     }
 
+    /**
+     * @return The colour Qalcyo uses to indicate success, packed as an ARGB integer.
+     */
+    public static int getSuccessRGBA() {
+        return success.getRGBA();
+    }
+
     /**
      * Provides a ColourRGB instance of the colour Qalcyo uses to indicate failure.
      *
@@ -77,4 +105,11 @@ public class CrimsonPalette {
         return fail;
     }
 
+    /**
+     * @return The colour Qalcyo uses to indicate failure, packed as an ARGB integer.
+     */
+    public static int getFailRGBA() {
+        return fail.getRGBA();
+    }
+
 }
\ No newline at end of file
@@ -19,6 +19,7 @@
 package xyz.qalcyo.crimson.core;
 
 import xyz.qalcyo.crimson.core.events.*;
+import xyz.qalcyo.crimson.core.rendering.RenderProfiler;
 import xyz.qalcyo.mango.collections.Pair;
 import xyz.qalcyo.mango.collections.impl.ImmutablePair;
 import xyz.qalcyo.eventbus.Event;
@@ -30,37 +31,72 @@ public final class InternalEventManager {
 
     private final CrimsonAPI crimson;
 
+    /* Frame-rate events, reused unless disabled. */
+    private final boolean reuseEvents;
+    private final TickEvent tickEvent = new TickEvent();
+    private final RenderTickEvent renderTickEvent = new RenderTickEvent(0);
+    private final RenderHudEvent renderHudEvent = new RenderHudEvent(0);
+
     public InternalEventManager() {
         this.crimson = CrimsonAPI.retrieveInstance();
+        this.reuseEvents = crimson.getJavaArguments().isEventReuse();
     }
 
     /**
      * Handles HUD rendering.
      */
     public void handleHudRender(float partialTicks) {
-        crimson.getEventBus().post(new RenderHudEvent(partialTicks));
+        if (!crimson.getCrimsonEventBus().hasSubscribers(RenderHudEvent.class))
+            return;
+
+        RenderProfiler profiler = crimson.getRenderProfiler();
+        profiler.begin(RenderProfiler.Section.HUD_RENDER);
+        try {
+            RenderHudEvent event = reuseEvents ? renderHudEvent : new RenderHudEvent(partialTicks);
+            event.partialTicks = partialTicks;
+            crimson.getCrimsonEventBus().post(event);
+        } finally {
+            profiler.end(RenderProfiler.Section.HUD_RENDER);
+        }
     }
 
     /**
      * Handles client ticks.
      */
     public void handleTick() {
-        crimson.getEventBus().post(new TickEvent());
+        if (!crimson.getCrimsonEventBus().hasSubscribers(TickEvent.class))
+            return;
+
+        crimson.getCrimsonEventBus().post(reuseEvents ? tickEvent : new TickEvent());
     }
 
     /**
      * Handles render ticks.
      */
     public void handleRenderTick(float partialTicks) {
-        crimson.getEventBus().post(new RenderTickEvent(partialTicks));
+        if (!crimson.getCrimsonEventBus().hasSubscribers(RenderTickEvent.class))
+            return;
+
+        RenderProfiler profiler = crimson.getRenderProfiler();
+        profiler.begin(RenderProfiler.Section.RENDER_TICK);
+        try {
+            RenderTickEvent event = reuseEvents ? renderTickEvent : new RenderTickEvent(partialTicks);
+            event.partialTicks = partialTicks;
+            crimson.getCrimsonEventBus().post(event);
+        } finally {
+            profiler.end(RenderProfiler.Section.RENDER_TICK);
+        }
     }
 
     /**
      * Handles chat messages being sent.
      */
     public Pair<String, Boolean> handleChatMessageSent(String message) {
+        if (!crimson.getCrimsonEventBus().hasSubscribers(SendChatMessageEvent.class))
+            return new ImmutablePair<>(message, false);
+
         SendChatMessageEvent event = new SendChatMessageEvent(message);
-        crimson.getEventBus().post(event);
+        crimson.getCrimsonEventBus().post(event);
         return new ImmutablePair<>(event.message, event.isCancelled());
     }
 
@@ -68,6 +104,9 @@ public final class InternalEventManager {
      * Handles chat messages being received.
      */
     public boolean handleChatMessageReceived(String message, byte type) {
+        if (!crimson.getCrimsonEventBus().hasSubscribers(ChatMessageReceivedEvent.class))
+            return false;
+
         return parseCancellable(new ChatMessageReceivedEvent(message, type));
     }
 
@@ -75,6 +114,9 @@ public final class InternalEventManager {
      * Handles key inputs.
      */
     public boolean handleKeyInput(int keyCode, boolean down, boolean repeated) {
+        if (!crimson.getCrimsonEventBus().hasSubscribers(KeyInputEvent.class))
+            return false;
+
         return parseCancellable(new KeyInputEvent(keyCode, down, repeated));
     }
 
@@ -82,7 +124,20 @@ public final class InternalEventManager {
      * Handles world loading.
      */
     public void handleWorldLoad() {
-        crimson.getEventBus().post(new WorldLoadEvent());
+        if (!crimson.getCrimsonEventBus().hasSubscribers(WorldLoadEvent.class))
+            return;
+
+        crimson.getCrimsonEventBus().post(new WorldLoadEvent());
+    }
+
+    /**
+     * Handles the scaled resolution changing.
+     */
+    public void handleWindowResize(int displayWidth, int displayHeight, int scaledWidth, int scaledHeight, int scaleFactor) {
+        if (!crimson.getCrimsonEventBus().hasSubscribers(WindowResizeEvent.class))
+            return;
+
+        crimson.getCrimsonEventBus().post(new WindowResizeEvent(displayWidth, displayHeight, scaledWidth, scaledHeight, scaleFactor));
     }
 
     /**
@@ -92,7 +147,7 @@ public final class InternalEventManager {
      * @return Whether the event is cancellable and is cancelled or not.
      */
     private boolean parseCancellable(Event event) {
-        crimson.getEventBus().post(event);
+        crimson.getCrimsonEventBus().post(event);
         return event.isCancellable() && event.isCancelled();
     }
 
@@ -0,0 +1,73 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.animation;
+
+import xyz.qalcyo.crimson.core.CrimsonAPI;
+
+/**
+ * A single tween owned by an object, such as a GUI component, instead of being tracked by ID.
+ */
+public class AnimatedValue {
+
+    private final AnimationScheduler scheduler;
+    private int id;
+
+    public AnimatedValue(AnimationScheduler scheduler, double value) {
+        this.scheduler = scheduler;
+        this.id = scheduler.create(value);
+    }
+
+    public AnimatedValue(double value) {
+        this(CrimsonAPI.retrieveInstance().getAnimationScheduler(), value);
+    }
+
+    public double get() {
+        return scheduler.get(id);
+    }
+
+    public void set(double value) {
+        scheduler.set(id, value);
+    }
+
+    /**
+     * @param duration How long the animation takes, in milliseconds.
+     */
+    public void animateTo(double value, long duration, Easing easing) {
+        scheduler.animate(id, value, duration, easing);
+    }
+
+    public double getTarget() {
+        return scheduler.getTarget(id);
+    }
+
+    public boolean isRunning() {
+        return scheduler.isRunning(id);
+    }
+
+    /**
+     * Frees the underlying tween, this value can't be used afterwards.
+     */
+    public void release() {
+        if (id != -1) {
+            scheduler.release(id);
+            id = -1;
+        }
+    }
+
+}
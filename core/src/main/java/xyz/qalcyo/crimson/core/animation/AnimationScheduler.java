@@ -0,0 +1,204 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.animation;
+
+import java.util.Arrays;
+
+/**
+ * Drives tweens from {@link System#nanoTime()}, so animations run at the same speed at any frame rate.
+ *
+ * Tweens are referred to by an integer ID and stored in flat arrays, only running tweens are
+ * visited each tick and nothing is done once they've all settled. This should only be used from the render thread.
+ */
+public class AnimationScheduler {
+
+    /* Frames longer than this, such as after the game was paused, are clamped so animations don't jump. */
+    private static final float MAX_FRAME_DELTA = 0.25f;
+
+    private double[] values = new double[32];
+    private double[] from = new double[32];
+    private double[] to = new double[32];
+    private long[] starts = new long[32];
+    private long[] durations = new long[32];
+    private Easing[] easings = new Easing[32];
+    /* The index of each tween in the running list, or -1 if it's settled. */
+    private int[] runningIndices = new int[32];
+    private int size;
+
+    private int[] running = new int[32];
+    private int runningCount;
+    private int[] free = new int[32];
+    private int freeCount;
+
+    private long lastTick;
+    private float frameDelta;
+
+    /**
+     * Creates a settled tween.
+     *
+     * @return The tween's ID, which should be released once it's no longer needed.
+     */
+    public int create(double value) {
+        int id;
+        if (freeCount > 0) {
+            id = free[--freeCount];
+        } else {
+            id = size++;
+            if (id == values.length) {
+                grow();
+            }
+        }
+
+        values[id] = value;
+        to[id] = value;
+        easings[id] = null;
+        runningIndices[id] = -1;
+        return id;
+    }
+
+    /**
+     * Animates the tween from it's current value to the one given.
+     *
+     * @param duration How long the animation takes, in milliseconds.
+     */
+    public void animate(int id, double value, long duration, Easing easing) {
+        if (duration <= 0) {
+            set(id, value);
+            return;
+        }
+
+        from[id] = values[id];
+        to[id] = value;
+        starts[id] = System.nanoTime();
+        durations[id] = duration * 1000000L;
+        easings[id] = easing;
+        if (runningIndices[id] == -1) {
+            if (runningCount == running.length) {
+                running = Arrays.copyOf(running, runningCount * 2);
+            }
+
+            runningIndices[id] = runningCount;
+            running[runningCount++] = id;
+        }
+    }
+
+    /**
+     * Stops the tween at the value given.
+     */
+    public void set(int id, double value) {
+        stop(id);
+        values[id] = value;
+        to[id] = value;
+    }
+
+    public double get(int id) {
+        return values[id];
+    }
+
+    /**
+     * @return The value the tween is animating towards, or it's value if it's settled.
+     */
+    public double getTarget(int id) {
+        return to[id];
+    }
+
+    public boolean isRunning(int id) {
+        return runningIndices[id] != -1;
+    }
+
+    /**
+     * Stops the tween and allows it's ID to be reused.
+     */
+    public void release(int id) {
+        stop(id);
+        easings[id] = null;
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+
+        free[freeCount++] = id;
+    }
+
+    /**
+     * Advances every running tween, should be called once at the start of every frame.
+     */
+    public void tick() {
+        long now = System.nanoTime();
+        frameDelta = lastTick == 0 ? 0 : Math.min((now - lastTick) / 1e9f, MAX_FRAME_DELTA);
+        lastTick = now;
+        if (runningCount == 0)
+            return;
+
+        for (int i = 0; i < runningCount; i++) {
+            int id = running[i];
+            long elapsed = now - starts[id];
+            if (elapsed >= durations[id]) {
+                values[id] = to[id];
+                if (stop(id)) {
+                    i--;
+                }
+            } else {
+                values[id] = from[id] + (to[id] - from[id]) * easings[id].ease((double) elapsed / durations[id]);
+            }
+        }
+    }
+
+    /**
+     * @return The time between the last two ticks in seconds, for things which progress continuously rather than tweening.
+     */
+    public float getFrameDelta() {
+        return frameDelta;
+    }
+
+    /**
+     * @return The amount of tweens which are currently animating.
+     */
+    public int getRunningCount() {
+        return runningCount;
+    }
+
+    /**
+     * Removes the tween from the running list, moving the last running tween into it's place.
+     *
+     * @return Whether the tween was running.
+     */
+    private boolean stop(int id) {
+        int index = runningIndices[id];
+        if (index == -1)
+            return false;
+
+        int last = running[--runningCount];
+        running[index] = last;
+        runningIndices[last] = index;
+        runningIndices[id] = -1;
+        return true;
+    }
+
+    private void grow() {
+        int capacity = values.length * 2;
+        values = Arrays.copyOf(values, capacity);
+        from = Arrays.copyOf(from, capacity);
+        to = Arrays.copyOf(to, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        easings = Arrays.copyOf(easings, capacity);
+        runningIndices = Arrays.copyOf(runningIndices, capacity);
+    }
+
+}
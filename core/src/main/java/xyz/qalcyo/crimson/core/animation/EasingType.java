@@ -0,0 +1,189 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.animation;
+
+/**
+ * The standard easing curves, view representations here: https://easings.net/
+ *
+ * The elastic, bounce and back curves are comparatively expensive, {@link #tabulated()}
+ * provides a version of them which interpolates between precomputed samples instead.
+ */
+public enum EasingType implements Easing {
+
+    LINEAR(t -> t),
+
+    IN_SINE(t -> 1 - Math.cos((t * Math.PI) / 2)),
+    OUT_SINE(t -> Math.sin((t * Math.PI) / 2)),
+    IN_OUT_SINE(t -> -(Math.cos(Math.PI * t) - 1) / 2),
+
+    IN_QUAD(t -> t * t),
+    OUT_QUAD(t -> 1 - (1 - t) * (1 - t)),
+    IN_OUT_QUAD(t -> t < 0.5 ? 2 * t * t : 1 - Math.pow(-2 * t + 2, 2) / 2),
+
+    IN_CUBIC(t -> t * t * t),
+    OUT_CUBIC(t -> 1 - Math.pow(1 - t, 3)),
+    IN_OUT_CUBIC(t -> t < 0.5 ? 4 * t * t * t : 1 - Math.pow(-2 * t + 2, 3) / 2),
+
+    IN_QUART(t -> t * t * t * t),
+    OUT_QUART(t -> 1 - Math.pow(1 - t, 4)),
+    IN_OUT_QUART(t -> t < 0.5 ? 8 * t * t * t * t : 1 - Math.pow(-2 * t + 2, 4) / 2),
+
+    IN_QUINT(t -> t * t * t * t * t),
+    OUT_QUINT(t -> 1 - Math.pow(1 - t, 5)),
+    IN_OUT_QUINT(t -> t < 0.5 ? 16 * t * t * t * t * t : 1 - Math.pow(-2 * t + 2, 5) / 2),
+
+    IN_EXPO(t -> t == 0 ? 0 : Math.pow(2, 10 * t - 10)),
+    OUT_EXPO(t -> t == 1 ? 1 : 1 - Math.pow(2, -10 * t)),
+    IN_OUT_EXPO(t -> t == 0 ? 0 : t == 1 ? 1 : t < 0.5 ? Math.pow(2, 20 * t - 10) / 2 : (2 - Math.pow(2, -20 * t + 10)) / 2),
+
+    IN_CIRC(t -> 1 - Math.sqrt(1 - t * t)),
+    OUT_CIRC(t -> Math.sqrt(1 - (t - 1) * (t - 1))),
+    IN_OUT_CIRC(t -> t < 0.5 ? (1 - Math.sqrt(1 - Math.pow(2 * t, 2))) / 2 : (Math.sqrt(1 - Math.pow(-2 * t + 2, 2)) + 1) / 2),
+
+    IN_BACK(true, EasingType::inBack),
+    OUT_BACK(true, EasingType::outBack),
+    IN_OUT_BACK(true, EasingType::inOutBack),
+
+    IN_ELASTIC(true, EasingType::inElastic),
+    OUT_ELASTIC(true, EasingType::outElastic),
+    IN_OUT_ELASTIC(true, EasingType::inOutElastic),
+
+    IN_BOUNCE(true, t -> 1 - outBounce(1 - t)),
+    OUT_BOUNCE(true, EasingType::outBounce),
+    IN_OUT_BOUNCE(true, t -> t < 0.5 ? (1 - outBounce(1 - 2 * t)) / 2 : (1 + outBounce(2 * t - 1)) / 2);
+
+    /* Samples per table, interpolating between them is off by under 0.2% of the animated distance. */
+    private static final int TABLE_SIZE = 1024;
+
+    private static final double BACK_C1 = 1.70158;
+    private static final double BACK_C2 = BACK_C1 * 1.525;
+    private static final double BACK_C3 = BACK_C1 + 1;
+    private static final double ELASTIC_C4 = (2 * Math.PI) / 3;
+    private static final double ELASTIC_C5 = (2 * Math.PI) / 4.5;
+
+    private final boolean expensive;
+    private final Easing function;
+    private volatile Easing table;
+
+    EasingType(boolean expensive, Easing function) {
+        this.expensive = expensive;
+        this.function = function;
+    }
+
+    EasingType(Easing function) {
+        this(false, function);
+    }
+
+    public double ease(double t) {
+        return function.ease(t);
+    }
+
+    /**
+     * @return Whether the curve is expensive enough to benefit from {@link #tabulated()}.
+     */
+    public boolean isExpensive() {
+        return expensive;
+    }
+
+    /**
+     * @return A version of this curve which interpolates between precomputed samples, or this curve if it's cheap enough to compute directly.
+     */
+    public Easing tabulated() {
+        if (!expensive)
+            return this;
+
+        Easing table = this.table;
+        if (table == null) {
+            this.table = table = new TableEasing(function, TABLE_SIZE);
+        }
+
+        return table;
+    }
+
+    private static double inBack(double t) {
+        return BACK_C3 * t * t * t - BACK_C1 * t * t;
+    }
+
+    private static double outBack(double t) {
+        return 1 + BACK_C3 * Math.pow(t - 1, 3) + BACK_C1 * Math.pow(t - 1, 2);
+    }
+
+    private static double inOutBack(double t) {
+        return t < 0.5 ? (Math.pow(2 * t, 2) * ((BACK_C2 + 1) * 2 * t - BACK_C2)) / 2 : (Math.pow(2 * t - 2, 2) * ((BACK_C2 + 1) * (t * 2 - 2) + BACK_C2) + 2) / 2;
+    }
+
+    private static double inElastic(double t) {
+        return t == 0 ? 0 : t == 1 ? 1 : -Math.pow(2, 10 * t - 10) * Math.sin((t * 10 - 10.75) * ELASTIC_C4);
+    }
+
+    private static double outElastic(double t) {
+        return t == 0 ? 0 : t == 1 ? 1 : Math.pow(2, -10 * t) * Math.sin((t * 10 - 0.75) * ELASTIC_C4) + 1;
+    }
+
+    private static double inOutElastic(double t) {
+        return t == 0 ? 0 : t == 1 ? 1 : t < 0.5 ? -(Math.pow(2, 20 * t - 10) * Math.sin((20 * t - 11.125) * ELASTIC_C5)) / 2 : (Math.pow(2, -20 * t + 10) * Math.sin((20 * t - 11.125) * ELASTIC_C5)) / 2 + 1;
+    }
+
+    private static double outBounce(double t) {
+        final double n1 = 7.5625;
+        final double d1 = 2.75;
+
+        if (t < 1 / d1) {
+            return n1 * t * t;
+        } else if (t < 2 / d1) {
+            return n1 * (t -= 1.5 / d1) * t + 0.75;
+        } else if (t < 2.5 / d1) {
+            return n1 * (t -= 2.25 / d1) * t + 0.9375;
+        } else {
+            return n1 * (t -= 2.625 / d1) * t + 0.984375;
+        }
+    }
+
+    /**
+     * Samples a curve once and linearly interpolates between the samples, progress outside of 0 to 1 is clamped.
+     */
+    private static final class TableEasing implements Easing {
+
+        private final double[] samples;
+        private final int last;
+
+        TableEasing(Easing function, int size) {
+            samples = new double[size + 1];
+            for (int i = 0; i <= size; i++) {
+                samples[i] = function.ease((double) i / size);
+            }
+
+            last = size;
+        }
+
+        public double ease(double t) {
+            if (t <= 0)
+                return samples[0];
+            if (t >= 1)
+                return samples[last];
+
+            double position = t * last;
+            int index = (int) position;
+            double fraction = position - index;
+            return samples[index] + (samples[index + 1] - samples[index]) * fraction;
+        }
+
+    }
+
+}
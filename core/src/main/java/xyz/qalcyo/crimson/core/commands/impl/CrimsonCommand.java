@@ -18,8 +18,14 @@
 
 package xyz.qalcyo.crimson.core.commands.impl;
 
+import net.minecraft.launchwrapper.Launch;
 import xyz.qalcyo.crimson.core.CrimsonAPI;
 import xyz.qalcyo.crimson.core.commands.annotations.Command;
+import xyz.qalcyo.crimson.core.files.FileManager;
+import xyz.qalcyo.crimson.core.rendering.RenderProfiler;
+
+import java.io.File;
+import java.io.IOException;
 
 @Command(
         name = "crimson",
@@ -43,4 +49,30 @@ public class CrimsonCommand {
         crimson.getSupportHelper().copyGameInfo();
     }
 
-}
\ No newline at end of file
+    @Command.Argument(name = "profiler")
+    private void profiler() {
+        RenderProfiler profiler = crimson.getRenderProfiler();
+        profiler.toggle();
+        crimson.getChatHelper().send("The render profiler is now " + (profiler.isEnabled() ? "enabled." : "disabled."));
+    }
+
+    @Command.Argument(name = "profilerexport")
+    private void profilerExport() {
+        RenderProfiler profiler = crimson.getRenderProfiler();
+        if (profiler.getFrameCount() == 0) {
+            crimson.getChatHelper().send("The render profiler hasn't recorded anything yet.");
+            return;
+        }
+
+        FileManager fileManager = crimson.getFileManager();
+        File file = new File(fileManager.getCrimsonDirectory(fileManager.getQalcyoDirectory(Launch.minecraftHome)), "profiler-" + System.currentTimeMillis() + ".csv");
+        try {
+            profiler.exportCsv(file);
+            crimson.getChatHelper().send("Exported " + profiler.getFrameCount() + " frames to " + file.getName() + ".");
+        } catch (IOException e) {
+            crimson.getLogger().error("Unable to export the render profiler's data.", e);
+            crimson.getChatHelper().send("Unable to export the render profiler's data.");
+        }
+    }
+
+}
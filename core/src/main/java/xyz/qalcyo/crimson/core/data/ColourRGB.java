@@ -40,7 +40,7 @@ public class ColourRGB {
     }
 
     public ColourRGB(JsonObject object) {
-        this(new Color(fromJson(object).getRGBA()));
+        this(fromJson(object).getRGBA());
     }
 
     public ColourRGB(String input) {
@@ -55,8 +55,11 @@ public class ColourRGB {
         this(colour.getRed(), colour.getGreen(), colour.getBlue(), colour.getAlpha());
     }
 
+    /**
+     * @param rgba A packed colour, it's alpha is ignored, the same as {@link Color#Color(int)}.
+     */
     public ColourRGB(int rgba) {
-        this(new Color(rgba));
+        this(PackedColour.red(rgba), PackedColour.green(rgba), PackedColour.blue(rgba));
     }
 
     public ColourRGB clone() {
@@ -116,11 +119,18 @@ public class ColourRGB {
     }
 
     public int getRGB() {
-        return asColor().getRGB();
+        return getRGBA();
     }
 
     public int getRGBA() {
-        return asColor().getRGB();
+        return PackedColour.argb(r, g, b, a);
+    }
+
+    /**
+     * @return This colour packed with a different alpha, without modifying it.
+     */
+    public int getRGBA(int alpha) {
+        return PackedColour.argb(r, g, b, alpha);
     }
 
     public Color asColor() {
@@ -0,0 +1,123 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.data;
+
+import java.awt.*;
+
+/**
+ * Helpers for colours packed into a single ARGB integer, the same format Minecraft and {@link Color#getRGB()} use.
+ * None of these allocate, so they're safe to use every frame.
+ */
+public final class PackedColour {
+
+    private PackedColour() {
+    }
+
+    public static int argb(int r, int g, int b, int a) {
+        return (clamp(a) << 24) | (clamp(r) << 16) | (clamp(g) << 8) | clamp(b);
+    }
+
+    public static int rgb(int r, int g, int b) {
+        return argb(r, g, b, 255);
+    }
+
+    public static int red(int colour) {
+        return colour >> 16 & 255;
+    }
+
+    public static int green(int colour) {
+        return colour >> 8 & 255;
+    }
+
+    public static int blue(int colour) {
+        return colour & 255;
+    }
+
+    public static int alpha(int colour) {
+        return colour >>> 24;
+    }
+
+    /**
+     * @return The colour with it's alpha replaced.
+     */
+    public static int withAlpha(int colour, int alpha) {
+        return (colour & 0xFFFFFF) | (clamp(alpha) << 24);
+    }
+
+    /**
+     * @return The colour with it's alpha multiplied by the factor given, from 0 to 1.
+     */
+    public static int multiplyAlpha(int colour, float factor) {
+        return withAlpha(colour, Math.round(alpha(colour) * factor));
+    }
+
+    /**
+     * Linearly interpolates every channel, including alpha.
+     *
+     * @param progress From 0, the first colour, to 1, the second colour.
+     */
+    public static int lerp(int from, int to, float progress) {
+        if (progress <= 0)
+            return from;
+        if (progress >= 1)
+            return to;
+
+        return argb(
+                lerpChannel(red(from), red(to), progress),
+                lerpChannel(green(from), green(to), progress),
+                lerpChannel(blue(from), blue(to), progress),
+                lerpChannel(alpha(from), alpha(to), progress)
+        );
+    }
+
+    /**
+     * @return The opaque colour for the hue, saturation and brightness given, from 0 to 1.
+     */
+    public static int fromHsb(float hue, float saturation, float brightness) {
+        return Color.HSBtoRGB(hue, saturation, brightness);
+    }
+
+    public static int fromHsb(float hue, float saturation, float brightness, int alpha) {
+        return withAlpha(fromHsb(hue, saturation, brightness), alpha);
+    }
+
+    /**
+     * @param hsb An array of at least three values, the hue, saturation and brightness are stored in it.
+     * @return The array given.
+     */
+    public static float[] toHsb(int colour, float[] hsb) {
+        return Color.RGBtoHSB(red(colour), green(colour), blue(colour), hsb);
+    }
+
+    /**
+     * @return A darker version of the colour, the same as {@link Color#darker()}.
+     */
+    public static int darker(int colour) {
+        return argb((int) (red(colour) * 0.7), (int) (green(colour) * 0.7), (int) (blue(colour) * 0.7), alpha(colour));
+    }
+
+    private static int lerpChannel(int from, int to, float progress) {
+        return Math.round(from + (to - from) * progress);
+    }
+
+    private static int clamp(int channel) {
+        return channel < 0 ? 0 : Math.min(channel, 255);
+    }
+
+}
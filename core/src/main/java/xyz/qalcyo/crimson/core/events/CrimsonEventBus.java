@@ -0,0 +1,188 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.events;
+
+import xyz.qalcyo.eventbus.Event;
+import xyz.qalcyo.eventbus.EventPriority;
+import xyz.qalcyo.eventbus.QalcyoEventBus;
+import xyz.qalcyo.eventbus.SubscribeEvent;
+import xyz.qalcyo.eventbus.SubscriberDepth;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Crimson's event bus.
+ *
+ * Every {@link SubscribeEvent} method is compiled into an {@link EventInvoker} when it's owner is registered,
+ * so posting an event costs about as much as calling each subscriber directly. It also keeps track of which
+ * event types have subscribers, so that hot paths can skip building and posting events nobody listens to.
+ */
+public class CrimsonEventBus extends QalcyoEventBus {
+
+    private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+    private static final EventInvoker CONSUMER_INVOKER = CrimsonEventBus::accept;
+
+    private final Map<Class<?>, List<Subscriber>> subscribers = new HashMap<>();
+    private volatile Map<Class<?>, Subscriber[]> resolved = new ConcurrentHashMap<>();
+    private long registrations;
+
+    public void register(Object object) {
+        register(object, false);
+    }
+
+    public void register(Object object, SubscriberDepth depth) {
+        register(object, depth == SubscriberDepth.SUPER);
+    }
+
+    public <T extends Event> void register(Class<T> clazz, Consumer<T> consumer) {
+        add(clazz, consumer, CONSUMER_INVOKER, EventPriority.NORMAL);
+    }
+
+    /**
+     * Removes every subscriber belonging to the object given.
+     *
+     * @param object The object to unregister, or a consumer previously registered.
+     */
+    public synchronized void unregister(Object object) {
+        for (List<Subscriber> list : subscribers.values()) {
+            list.removeIf(subscriber -> subscriber.listener == object);
+        }
+
+        invalidate();
+    }
+
+    public void post(Event event) {
+        for (Subscriber subscriber : resolve(event.getClass())) {
+            subscriber.invoker.invoke(subscriber.listener, event);
+        }
+    }
+
+    /**
+     * Checks whether anything has subscribed to the event type given, or to one of it's parents.
+     *
+     * @param type The event type to check.
+     * @return Whether posting an event of this type could reach a subscriber.
+     */
+    public boolean hasSubscribers(Class<? extends Event> type) {
+        return resolve(type).length != 0;
+    }
+
+    private void register(Object object, boolean parents) {
+        Set<String> seen = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(object.getClass());
+        while (!queue.isEmpty()) {
+            Class<?> clazz = queue.poll();
+            for (Method method : clazz.getDeclaredMethods()) {
+                SubscribeEvent annotation = method.getAnnotation(SubscribeEvent.class);
+                if (annotation == null || method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0]))
+                    continue;
+                if (!seen.add(method.getName() + Arrays.toString(method.getParameterTypes())))
+                    continue;
+
+                add(method.getParameterTypes()[0], object, EventInvokers.compile(method), annotation.priority());
+            }
+
+            if (parents) {
+                if (clazz.getSuperclass() != null && clazz.getSuperclass() != Object.class)
+                    queue.add(clazz.getSuperclass());
+                queue.addAll(Arrays.asList(clazz.getInterfaces()));
+            }
+        }
+    }
+
+    private synchronized void add(Class<?> type, Object listener, EventInvoker invoker, EventPriority priority) {
+        subscribers.computeIfAbsent(type, key -> new ArrayList<>()).add(new Subscriber(listener, invoker, weigh(priority), registrations++));
+        invalidate();
+    }
+
+    private Subscriber[] resolve(Class<?> type) {
+        Map<Class<?>, Subscriber[]> cache = resolved;
+        Subscriber[] value = cache.get(type);
+        if (value == null) {
+            value = collect(type);
+            cache.put(type, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * @return Every subscriber to the type given or one of it's parents, ordered by priority then registration.
+     */
+    private synchronized Subscriber[] collect(Class<?> type) {
+        List<Subscriber> value = new ArrayList<>();
+        for (Map.Entry<Class<?>, List<Subscriber>> entry : subscribers.entrySet()) {
+            if (entry.getKey().isAssignableFrom(type)) {
+                value.addAll(entry.getValue());
+            }
+        }
+
+        if (value.isEmpty())
+            return NO_SUBSCRIBERS;
+
+        value.sort(Comparator.<Subscriber>comparingInt(subscriber -> subscriber.priority).thenComparingLong(subscriber -> subscriber.order));
+        return value.toArray(NO_SUBSCRIBERS);
+    }
+
+    private void invalidate() {
+        resolved = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return The dispatch order of the priority given, lower values are called first.
+     */
+    private static int weigh(EventPriority priority) {
+        switch (priority.name()) {
+            case "HIGHEST":
+                return 0;
+            case "HIGH":
+                return 1;
+            case "LOW":
+                return 3;
+            case "LOWEST":
+                return 4;
+            default:
+                return 2;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void accept(Object listener, Event event) {
+        ((Consumer<Event>) listener).accept(event);
+    }
+
+    private static final class Subscriber {
+        private final Object listener;
+        private final EventInvoker invoker;
+        private final int priority;
+        private final long order;
+
+        private Subscriber(Object listener, EventInvoker invoker, int priority, long order) {
+            this.listener = listener;
+            this.invoker = invoker;
+            this.priority = priority;
+            this.order = order;
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.events;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import xyz.qalcyo.eventbus.Event;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Turns subscriber methods into {@link EventInvoker}s.
+ *
+ * Instance methods are compiled into a generated class through the {@link LambdaMetafactory},
+ * making a dispatch as cheap as a direct call. Static methods, or methods the metafactory can't
+ * reach, fall back to a {@link MethodHandle}.
+ */
+final class EventInvokers {
+
+    private static final Logger LOGGER = LogManager.getLogger("Crimson (Events)");
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(EventInvoker.class);
+    private static final MethodType INVOKE_TYPE = MethodType.methodType(void.class, Object.class, Event.class);
+
+    private EventInvokers() {
+    }
+
+    /**
+     * @param method The subscriber method to compile.
+     * @return An invoker calling the method given.
+     */
+    static EventInvoker compile(Method method) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            try {
+                return generate(method);
+            } catch (Throwable t) {
+                LOGGER.debug("Couldn't generate an invoker for subscriber method {}, falling back to a method handle.", method, t);
+            }
+        }
+
+        try {
+            return wrap(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Couldn't access subscriber method " + method, e);
+        }
+    }
+
+    private static EventInvoker generate(Method method) throws Throwable {
+        MethodHandles.Lookup lookup = privateLookup(method.getDeclaringClass());
+        MethodHandle handle = lookup.unreflect(method);
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "invoke",
+                INVOKER_TYPE,
+                INVOKE_TYPE,
+                handle,
+                MethodType.methodType(void.class, handle.type().parameterArray())
+        );
+        return (EventInvoker) site.getTarget().invokeExact();
+    }
+
+    private static EventInvoker wrap(Method method) throws IllegalAccessException {
+        method.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers()))
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        MethodHandle target = handle.asType(INVOKE_TYPE);
+        return (listener, event) -> {
+            try {
+                target.invokeExact(listener, event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+    }
+
+    /**
+     * @return A lookup with private access to the class given, allowing the generated invoker to call private subscribers.
+     */
+    private static MethodHandles.Lookup privateLookup(Class<?> clazz) throws Exception {
+        try {
+            Method privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+            return (MethodHandles.Lookup) privateLookupIn.invoke(null, clazz, MethodHandles.lookup());
+        } catch (NoSuchMethodException e) {
+            /* Java 8 doesn't provide privateLookupIn, use the full-privilege constructor instead. */
+            Constructor<MethodHandles.Lookup> constructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(clazz, MethodHandles.Lookup.PUBLIC | MethodHandles.Lookup.PRIVATE | MethodHandles.Lookup.PROTECTED | MethodHandles.Lookup.PACKAGE);
+        }
+    }
+
+}
@@ -20,8 +20,12 @@ package xyz.qalcyo.crimson.core.events;
 
 import xyz.qalcyo.eventbus.Event;
 
+/**
+ * Posted every frame. Unless reuse is disabled through the <code>crimson.events.reuse</code> JVM property,
+ * the same instance is posted each time, so subscribers shouldn't hold onto it.
+ */
 public class RenderHudEvent extends Event {
-    public final float partialTicks;
+    public float partialTicks;
     public RenderHudEvent(float partialTicks) {
         this.partialTicks = partialTicks;
     }
@@ -20,5 +20,9 @@ package xyz.qalcyo.crimson.core.events;
 
 import xyz.qalcyo.eventbus.Event;
 
+/**
+ * Posted every client tick. Unless reuse is disabled through the <code>crimson.events.reuse</code> JVM property,
+ * the same instance is posted each time, so subscribers shouldn't hold onto it.
+ */
 public class TickEvent extends Event {
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.events;
+
+import xyz.qalcyo.eventbus.Event;
+
+/**
+ * Posted when the window size, GUI scale or anything else affecting the scaled resolution changes.
+ * Anything cached against the resolution should be invalidated.
+ */
+public class WindowResizeEvent extends Event {
+    public final int displayWidth, displayHeight;
+    public final int scaledWidth, scaledHeight, scaleFactor;
+    public WindowResizeEvent(int displayWidth, int displayHeight, int scaledWidth, int scaledHeight, int scaleFactor) {
+        this.displayWidth = displayWidth;
+        this.displayHeight = displayHeight;
+        this.scaledWidth = scaledWidth;
+        this.scaledHeight = scaledHeight;
+        this.scaleFactor = scaleFactor;
+    }
+}
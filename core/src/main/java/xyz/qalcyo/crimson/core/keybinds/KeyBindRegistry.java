@@ -93,7 +93,7 @@ public class KeyBindRegistry {
     private void onKeyInput(KeyInputEvent event) {
         if (!crimson.getGuiHelper().isGuiPresent()) {
             for (KeyBind keyBind : keyBinds) {
-                if (configurations.isAvailable(keyBind) && keyBind.getKey() == event.keyCode) {
+                if (configurations.isAvailable(keyBind) && keyBind.getKey() != 0 && keyBind.getKey() == event.keyCode) {
                     keyBind.handle(event.down ? KeyBindState.PRESS : KeyBindState.RELEASE);
                 }
             }
@@ -45,7 +45,24 @@ public interface INotifications {
     default void push(String title, String description) {
         push(new Notification(title, description));
     }
+    /**
+     * Pushes a notification on behalf of a source, a notification with the same source and title
+     * that's already shown or waiting replaces it's description instead of being queued again.
+     * When merged, a shown notification's duration restarts, but it keeps it's own colour, duration
+     * and click listener, the ones of the notification given are discarded.
+     * Notifications pushed without a source are never merged.
+     */
+    default void push(String source, Notification notification) {
+        notification.source = source;
+        push(notification);
+    }
     void push(Notification notification);
 
     void render(float ticks);
+
+    /**
+     * Sets how many notifications can be shown at once, the rest wait until one closes.
+     */
+    void setVisibleLimit(int limit);
+    int getVisibleLimit();
 }
\ No newline at end of file
@@ -27,6 +27,8 @@ public class Notification {
     public String title;
     public String description;
     public NotificationColour colour;
+    /* Who pushed the notification, if known. Used to merge duplicates. */
+    public String source;
     public final int duration;
     public final Consumer<Notification> clickListener;
     public final NotificationData data;
@@ -70,7 +72,9 @@ public class Notification {
     }
 
     public Notification clone() {
-        return new Notification(title, description, colour, duration, clickListener);
+        Notification notification = new Notification(title, description, colour, duration, clickListener);
+        notification.source = source;
+        return notification;
     }
 
     public void repush() {
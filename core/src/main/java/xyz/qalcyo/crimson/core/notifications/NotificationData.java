@@ -18,11 +18,19 @@
 
 package xyz.qalcyo.crimson.core.notifications;
 
+import xyz.qalcyo.crimson.core.rendering.TextLayout;
+
 public class NotificationData {
     public float time;
     public float x;
     public boolean closing;
     public boolean clicked;
+    public TextLayout titleLayout;
+    public TextLayout descriptionLayout;
+    /* The tween of how far the notification has slid onto the screen, from 0 to 1, or -1 before it's first shown. */
+    public int slideAnimation = -1;
+    /* A newer notification with the same source and title, waiting to be merged into this one while it's shown. */
+    public Notification update;
 
     NotificationData(float time, boolean closing, boolean clicked) {
         this.time = time;
@@ -0,0 +1,64 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.rendering;
+
+/**
+ * Collects flat coloured shapes so they can be drawn together in a single draw call.
+ *
+ * Nothing is drawn until {@link #flush()} is called, so anything which should appear above the shapes
+ * (text, textures) must be drawn after flushing.
+ */
+public interface IBatch2D {
+
+    /**
+     * Adds a filled triangle to the batch.
+     */
+    void triangle(float x1, float y1, float x2, float y2, float x3, float y3, int colour);
+
+    /**
+     * Adds a filled rectangle to the batch.
+     */
+    default void rect(float left, float top, float right, float bottom, int colour) {
+        triangle(left, top, left, bottom, right, bottom, colour);
+        triangle(left, top, right, bottom, right, top, colour);
+    }
+
+    /**
+     * Adds a filled arc, like a slice of a circle, to the batch.
+     *
+     * @param x      The X position of the arc's centre.
+     * @param y      The Y position of the arc's centre.
+     * @param radius The radius of the arc.
+     * @param start  The angle to start the arc at, in degrees.
+     * @param end    The angle to end the arc at, in degrees.
+     * @param colour The colour of the arc.
+     */
+    void arc(float x, float y, float radius, int start, int end, int colour);
+
+    /**
+     * @return Whether nothing has been added since the last flush.
+     */
+    boolean isEmpty();
+
+    /**
+     * Draws everything added to the batch, then empties it.
+     */
+    void flush();
+
+}
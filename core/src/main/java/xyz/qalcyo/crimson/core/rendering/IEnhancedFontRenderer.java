@@ -19,7 +19,6 @@
 package xyz.qalcyo.crimson.core.rendering;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 public interface IEnhancedFontRenderer {
@@ -36,6 +35,59 @@ public interface IEnhancedFontRenderer {
      */
     int getWidth(char input);
 
+    /**
+     * @param inputs The input sequences to get the widths of.
+     * @return The width of each input, in the same order.
+     */
+    default int[] getWidths(CharSequence[] inputs) {
+        int[] widths = new int[inputs.length];
+        getWidths(inputs, widths);
+        return widths;
+    }
+
+    /**
+     * @param inputs The input sequences to get the widths of.
+     * @param widths The array to store the width of each input in, which must be at least as long as the inputs.
+     */
+    default void getWidths(CharSequence[] inputs, int[] widths) {
+        for (int i = 0; i < inputs.length; i++) {
+            widths[i] = getWidth(inputs[i]);
+        }
+    }
+
+    /**
+     * Creates a new, empty batch for drawing many strings at once.
+     *
+     * @return The new text batch.
+     */
+    ITextBatch createTextBatch();
+
+    /**
+     * @return The height of a single line of text.
+     */
+    int getFontHeight();
+
+    /**
+     * Provides a wrapped layout of the text given, reusing a previous one where possible.
+     *
+     * @param text  The text to lay out.
+     * @param width The maximum width of each line.
+     * @return The layout of the text.
+     */
+    default TextLayout getLayout(String text, int width) {
+        return TextLayout.create(this, text, width);
+    }
+
+    /**
+     * Clears any cached text metrics, should be called when the font's glyphs change.
+     */
+    void invalidateCaches();
+
+    /**
+     * @return A counter which changes each time the cached text metrics are invalidated.
+     */
+    int getGeneration();
+
     /**
      * @return A trimmed version of the input param based on the width given.
      */
@@ -455,44 +507,133 @@ public interface IEnhancedFontRenderer {
     void drawCenteredScaledChromaText(String text, float scale, double x, double y);
 
     /**
-     * Adapted from XanderLib under GPL 3.0 license
-     * https://github.com/isXander/XanderLib/blob/main/LICENSE
-     *
-     * @author isXander
+     * @return The lines of the input wrapped to the width given, each starting with the formatting carried over to it.
+     * @see #wrapText(CharSequence, int, String, LineBuffer)
      */
     default List<String> wrapTextLines(String text, int width, String split) {
-        String wrapped = wrapText(text, width, split);
-        if (wrapped.isEmpty())
-            return new ArrayList<>();
-        return Arrays.asList(wrapped.split("\n"));
+        LineBuffer buffer = new LineBuffer();
+        wrapText(text, width, split, buffer);
+        List<String> lines = new ArrayList<>(buffer.size());
+        for (int i = 0; i < buffer.size(); i++) {
+            lines.add(buffer.getFormatting(i) + text.substring(buffer.getStart(i), buffer.getEnd(i)));
+        }
+
+        return lines;
     }
 
     /**
-     * Adapted from XanderLib under GPL 3.0 license
-     * https://github.com/isXander/XanderLib/blob/main/LICENSE
-     *
-     * @author isXander
+     * @return The input wrapped to the width given, with lines separated by new lines.
+     * @see #wrapText(CharSequence, int, String, LineBuffer)
      */
     default String wrapText(String text, int width, String split) {
-        String[] words = text.split("(" + split + "|\n)");
-        int lineLength = 0;
-        StringBuilder output = new StringBuilder();
-
-        for (int i = 0; i < words.length; i++) {
-            String word = words[i];
-            if (i != words.length - 1)
-                word += split;
-            int wordLength = getWidth(word);
-            if (lineLength + wordLength <= width) {
-                output.append(word);
-                lineLength += wordLength;
-            } else if (wordLength <= width) {
-                output.append("\n").append(word);
-                lineLength = wordLength;
-            } else
-                output.append(wrapText(word, width, "")).append(split);
+        return String.join("\n", wrapTextLines(text, width, split));
+    }
+
+    /**
+     * Wraps text on spaces and new lines to fit within the width given.
+     *
+     * @param text   The text to wrap.
+     * @param width  The maximum width of each line.
+     * @param buffer The buffer to store the lines in, it's cleared first.
+     */
+    default void wrapText(CharSequence text, int width, LineBuffer buffer) {
+        wrapText(text, width, " ", buffer);
+    }
+
+    /**
+     * Wraps text to fit within the width given in a single pass, without creating any strings.
+     *
+     * Lines are broken after the last separator which fits, or mid-word when a word is wider than a whole line.
+     * Separators at the point of a break are left out of both lines. Formatting codes take up no width, are
+     * applied to the width of bold characters and are carried over to the lines which follow.
+     *
+     * @param text   The text to wrap.
+     * @param width  The maximum width of each line.
+     * @param split  The literal separator to break lines on, or an empty string to only break on new lines and overflow.
+     * @param buffer The buffer to store the lines in, it's cleared first.
+     */
+    default void wrapText(CharSequence text, int width, String split, LineBuffer buffer) {
+        buffer.clear();
+        int length = text.length();
+        int splitLength = split.length();
+
+        int lineStart = 0;
+        int lineWidth = 0;
+        int lineFormat = 0;
+        int format = 0;
+
+        /* The most recent separator on this line, and the state just after it. */
+        int breakStart = -1;
+        int breakEnd = -1;
+        int breakWidth = 0;
+        int breakFormat = 0;
+        int lineWidthBeforeBreak = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (i == breakEnd) {
+                breakWidth = lineWidth;
+                breakFormat = format;
+            }
+
+            char c = text.charAt(i);
+            if (c == '\n') {
+                buffer.add(lineStart, i, lineWidth, lineFormat);
+                lineStart = i + 1;
+                lineWidth = 0;
+                lineFormat = format;
+                breakStart = breakEnd = -1;
+                continue;
+            }
+
+            if (c == '\u00a7' && i + 1 < length && LineBuffer.isFormattingCode(text.charAt(i + 1))) {
+                format = LineBuffer.applyFormatting(format, text.charAt(++i));
+                continue;
+            }
+
+            if (splitLength != 0 && i >= breakEnd && c == split.charAt(0) && LineBuffer.regionMatches(text, i, split)) {
+                breakStart = i;
+                breakEnd = i + splitLength;
+                lineWidthBeforeBreak = lineWidth;
+            }
+
+            int charWidth = getWidth(c);
+            if (charWidth < 0)
+                charWidth = 0;
+            if (charWidth > 0 && LineBuffer.isBold(format))
+                charWidth++;
+
+            if (lineWidth + charWidth > width && i > lineStart) {
+                if (breakStart > lineStart) {
+                    buffer.add(lineStart, breakStart, lineWidthBeforeBreak, lineFormat);
+                    if (i < breakEnd) {
+                        /* The separator itself overflowed, drop what's left of it. */
+                        lineStart = breakEnd;
+                        lineWidth = 0;
+                        lineFormat = format;
+                        breakStart = -1;
+                        i = breakEnd - 1;
+                        continue;
+                    }
+
+                    lineStart = breakEnd;
+                    lineWidth -= breakWidth;
+                    lineFormat = breakFormat;
+                } else {
+                    buffer.add(lineStart, i, lineWidth, lineFormat);
+                    lineStart = i;
+                    lineWidth = 0;
+                    lineFormat = format;
+                }
+
+                breakStart = -1;
+            }
+
+            lineWidth += charWidth;
+        }
+
+        if (lineStart < length) {
+            buffer.add(lineStart, length, lineWidth, lineFormat);
         }
-        return output.toString();
     }
 
     /**
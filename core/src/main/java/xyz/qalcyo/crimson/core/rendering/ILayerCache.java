@@ -0,0 +1,46 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.rendering;
+
+/**
+ * Caches whatever is drawn into it in an off-screen texture, so it can be composited
+ * with a single quad until it's marked as dirty.
+ */
+public interface ILayerCache {
+
+    /**
+     * Draws the cached layer, rendering it into the cache first if it's dirty.
+     *
+     * @param draw Draws the layer's contents, only called when the cache needs to be rebuilt.
+     */
+    void render(Runnable draw);
+
+    /**
+     * Forces the layer to be rendered again the next time it's drawn.
+     */
+    void markDirty();
+
+    boolean isDirty();
+
+    /**
+     * Releases the cache's framebuffer, it's recreated if the layer is drawn again.
+     */
+    void delete();
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.rendering;
+
+/**
+ * Pre-built vertices which can be drawn every frame without being rebuilt.
+ *
+ * @see xyz.qalcyo.crimson.core.bridge.crimson.IRenderingBridge#beginMesh
+ */
+public interface IMesh {
+
+    /**
+     * @return The amount of vertices in this mesh.
+     */
+    int getVertexCount();
+
+    /**
+     * Draws the mesh with the current GL state.
+     */
+    void draw();
+
+    /**
+     * Releases the mesh's buffers, it can't be drawn afterwards.
+     */
+    void delete();
+
+}
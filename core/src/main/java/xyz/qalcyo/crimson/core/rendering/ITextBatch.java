@@ -0,0 +1,106 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.rendering;
+
+/**
+ * Queues text to be drawn together, so that many strings cost a few draw calls instead of one each.
+ *
+ * Nothing is drawn until {@link #flush()} is called, after which the batch is empty and can be reused.
+ * Positions are in screen space, scaling is applied to the text around it's position.
+ */
+public interface ITextBatch {
+
+    /**
+     * Queues a String to be drawn.
+     *
+     * @param text   The string to render.
+     * @param x      The X position of where to draw the text.
+     * @param y      The Y position of where to draw the text.
+     * @param scale  The amount to scale the text.
+     * @param colour The colour of the text drawn.
+     * @param shadow Whether to display a text shadow.
+     */
+    void add(String text, float x, float y, float scale, int colour, boolean shadow);
+
+    /**
+     * Queues a String to be drawn.
+     *
+     * @param text   The string to render.
+     * @param x      The X position of where to draw the text.
+     * @param y      The Y position of where to draw the text.
+     * @param colour The colour of the text drawn.
+     * @param shadow Whether to display a text shadow.
+     */
+    default void add(String text, float x, float y, int colour, boolean shadow) {
+        add(text, x, y, 1, colour, shadow);
+    }
+
+    /**
+     * Queues a String to be drawn.
+     *
+     * @param text   The string to render.
+     * @param x      The X position of where to draw the text.
+     * @param y      The Y position of where to draw the text.
+     * @param colour The colour of the text drawn.
+     */
+    default void add(String text, float x, float y, int colour) {
+        add(text, x, y, 1, colour, false);
+    }
+
+    /**
+     * Queues a String to be drawn centered on the position given.
+     *
+     * @param text   The string to render.
+     * @param x      The middle X position to draw the text.
+     * @param y      The Y position of where to draw the text.
+     * @param scale  The amount to scale the text.
+     * @param colour The colour of the text drawn.
+     * @param shadow Whether to display a text shadow.
+     */
+    void addCentered(String text, float x, float y, float scale, int colour, boolean shadow);
+
+    /**
+     * Queues a String to be drawn centered on the position given.
+     *
+     * @param text   The string to render.
+     * @param x      The middle X position to draw the text.
+     * @param y      The Y position of where to draw the text.
+     * @param colour The colour of the text drawn.
+     * @param shadow Whether to display a text shadow.
+     */
+    default void addCentered(String text, float x, float y, int colour, boolean shadow) {
+        addCentered(text, x, y, 1, colour, shadow);
+    }
+
+    /**
+     * @return The amount of strings queued.
+     */
+    int size();
+
+    /**
+     * Draws every queued string, then empties the batch.
+     */
+    void flush();
+
+    /**
+     * Empties the batch without drawing anything.
+     */
+    void clear();
+
+}
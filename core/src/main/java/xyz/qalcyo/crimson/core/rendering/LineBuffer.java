@@ -0,0 +1,195 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.rendering;
+
+import java.util.Arrays;
+
+/**
+ * A reusable list of line ranges produced by {@link IEnhancedFontRenderer#wrapText(CharSequence, int, LineBuffer)}.
+ *
+ * Lines are stored as start and end offsets into the wrapped text, along with their width and the formatting
+ * which was active when they started, so they can be drawn without creating a substring per line.
+ */
+public class LineBuffer {
+
+    private static final String FORMATTING_CODES = "0123456789abcdefklmnor";
+    private static final int COLOUR_MASK = 0x1F;
+    private static final int STYLE_SHIFT = 5;
+
+    private int[] starts;
+    private int[] ends;
+    private int[] widths;
+    private int[] formats;
+    private int size;
+
+    public LineBuffer(int capacity) {
+        capacity = Math.max(capacity, 1);
+        starts = new int[capacity];
+        ends = new int[capacity];
+        widths = new int[capacity];
+        formats = new int[capacity];
+    }
+
+    public LineBuffer() {
+        this(8);
+    }
+
+    /**
+     * Removes all lines, keeping the allocated storage for reuse.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return The amount of lines stored.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The offset of the first character of the line given.
+     */
+    public int getStart(int line) {
+        return starts[line];
+    }
+
+    /**
+     * @return The offset after the last character of the line given.
+     */
+    public int getEnd(int line) {
+        return ends[line];
+    }
+
+    /**
+     * @return The rendered width of the line given.
+     */
+    public int getWidth(int line) {
+        return widths[line];
+    }
+
+    /**
+     * @return The packed formatting state active at the start of the line given.
+     */
+    public int getFormat(int line) {
+        return formats[line];
+    }
+
+    /**
+     * @return The widest line stored, or zero if there are none.
+     */
+    public int getMaxWidth() {
+        int value = 0;
+        for (int i = 0; i < size; i++) {
+            value = Math.max(value, widths[i]);
+        }
+
+        return value;
+    }
+
+    /**
+     * @param text The text these lines were wrapped from.
+     * @param line The line to get.
+     * @return A view of the line given, without the formatting which was carried over from previous lines.
+     */
+    public CharSequence getLine(CharSequence text, int line) {
+        return text.subSequence(starts[line], ends[line]);
+    }
+
+    /**
+     * @param line The line to get the formatting of.
+     * @return The formatting codes needed to continue the formatting of previous lines, or an empty string.
+     */
+    public String getFormatting(int line) {
+        return toFormatting(formats[line]);
+    }
+
+    void add(int start, int end, int width, int format) {
+        if (size == starts.length) {
+            int capacity = size * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            widths = Arrays.copyOf(widths, capacity);
+            formats = Arrays.copyOf(formats, capacity);
+        }
+
+        starts[size] = start;
+        ends[size] = end;
+        widths[size] = width;
+        formats[size] = format;
+        size++;
+    }
+
+    /**
+     * Applies a formatting code to a packed formatting state.
+     *
+     * @return The new formatting state, the same as the one given if the code isn't valid.
+     */
+    static int applyFormatting(int format, char code) {
+        int index = FORMATTING_CODES.indexOf(Character.toLowerCase(code));
+        if (index == -1)
+            return format;
+        if (index < 16)
+            return index + 1;
+        if (index == 21)
+            return 0;
+        return format | (1 << (STYLE_SHIFT + index - 16));
+    }
+
+    static boolean isFormattingCode(char code) {
+        return FORMATTING_CODES.indexOf(Character.toLowerCase(code)) != -1;
+    }
+
+    static boolean regionMatches(CharSequence text, int offset, String value) {
+        if (offset + value.length() > text.length())
+            return false;
+
+        for (int i = 0; i < value.length(); i++) {
+            if (text.charAt(offset + i) != value.charAt(i))
+                return false;
+        }
+
+        return true;
+    }
+
+    static boolean isBold(int format) {
+        return (format & (1 << (STYLE_SHIFT + 1))) != 0;
+    }
+
+    static String toFormatting(int format) {
+        if (format == 0)
+            return "";
+
+        StringBuilder builder = new StringBuilder(8);
+        int colour = format & COLOUR_MASK;
+        if (colour != 0) {
+            builder.append('\u00a7').append(FORMATTING_CODES.charAt(colour - 1));
+        }
+
+        for (int i = 0; i < 5; i++) {
+            if ((format & (1 << (STYLE_SHIFT + i))) != 0) {
+                builder.append('\u00a7').append(FORMATTING_CODES.charAt(16 + i));
+            }
+        }
+
+        return builder.toString();
+    }
+
+}
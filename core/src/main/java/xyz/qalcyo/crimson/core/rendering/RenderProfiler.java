@@ -0,0 +1,333 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.rendering;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Records how long each part of Crimson's rendering takes, how many draw calls it makes and how much
+ * it allocates, keeping the last {@link #FRAMES} frames in a ring buffer.
+ *
+ * Sections may be nested, time is only counted once for re-entrant sections and draw calls
+ * are attributed to the innermost section. Nothing is recorded while the profiler is disabled.
+ *
+ * Reading the thread's allocation counter allocates on some JVMs, so that cost is measured once
+ * and subtracted for every read made while a section was open, including those of nested sections.
+ */
+public class RenderProfiler {
+
+    public static final int FRAMES = 600;
+    private static final int MAX_DEPTH = 16;
+    private static final Section[] SECTIONS = Section.values();
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final boolean allocationSupported = threads instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported();
+    /* The bytes allocated by reading the allocation counter once, and how many times it's been read. */
+    private final long readOverhead;
+    private long reads;
+
+    private volatile boolean enabled;
+
+    /* Current frame. */
+    private final int[] depths = new int[SECTIONS.length];
+    private final long[] starts = new long[SECTIONS.length];
+    private final long[] allocationStarts = new long[SECTIONS.length];
+    private final long[] readStarts = new long[SECTIONS.length];
+    private final long[] nanos = new long[SECTIONS.length];
+    private final int[] calls = new int[SECTIONS.length];
+    private final int[] drawCalls = new int[SECTIONS.length];
+    private final long[] allocated = new long[SECTIONS.length];
+    private final int[] stack = new int[MAX_DEPTH];
+    private int stackSize;
+    private long frameStart;
+
+    /* Ring buffer, indexed by frame then section. */
+    private final long[] frameNanos = new long[FRAMES];
+    private final long[] recordedNanos = new long[FRAMES * SECTIONS.length];
+    private final int[] recordedCalls = new int[FRAMES * SECTIONS.length];
+    private final int[] recordedDrawCalls = new int[FRAMES * SECTIONS.length];
+    private final long[] recordedAllocated = new long[FRAMES * SECTIONS.length];
+    private int frame;
+    private int frameCount;
+
+    public RenderProfiler() {
+        readOverhead = measureReadOverhead();
+    }
+
+    public void begin(Section section) {
+        if (!enabled)
+            return;
+
+        int index = section.ordinal();
+        if (stackSize < MAX_DEPTH)
+            stack[stackSize] = index;
+        stackSize++;
+
+        if (depths[index]++ == 0) {
+            allocationStarts[index] = getAllocatedBytes();
+            readStarts[index] = reads;
+            starts[index] = System.nanoTime();
+        }
+    }
+
+    public void end(Section section) {
+        if (!enabled || stackSize == 0)
+            return;
+
+        int index = section.ordinal();
+        stackSize--;
+        if (depths[index] > 0 && --depths[index] == 0) {
+            nanos[index] += System.nanoTime() - starts[index];
+            long allocatedBytes = getAllocatedBytes() - allocationStarts[index];
+            allocated[index] += Math.max(0, allocatedBytes - (reads - readStarts[index]) * readOverhead);
+            calls[index]++;
+        }
+    }
+
+    /**
+     * Counts a draw call against the innermost section being profiled, if any.
+     */
+    public void countDrawCall() {
+        if (enabled && stackSize > 0) {
+            drawCalls[stack[Math.min(stackSize, MAX_DEPTH) - 1]]++;
+        }
+    }
+
+    /**
+     * Stores the current frame in the ring buffer and starts a new one, should be called once per frame.
+     */
+    public void endFrame() {
+        long now = System.nanoTime();
+        /* Anything still open was left that way by an exception, so it's closed with the frame. */
+        Arrays.fill(depths, 0);
+        stackSize = 0;
+        if (!enabled) {
+            frameStart = now;
+            return;
+        }
+
+        if (frameStart == 0) {
+            /* Profiling was enabled part way through this frame, so only the next one is recorded. */
+            frameStart = now;
+            resetFrame();
+            return;
+        }
+
+        int offset = frame * SECTIONS.length;
+        frameNanos[frame] = now - frameStart;
+        System.arraycopy(nanos, 0, recordedNanos, offset, SECTIONS.length);
+        System.arraycopy(calls, 0, recordedCalls, offset, SECTIONS.length);
+        System.arraycopy(drawCalls, 0, recordedDrawCalls, offset, SECTIONS.length);
+        System.arraycopy(allocated, 0, recordedAllocated, offset, SECTIONS.length);
+        frame = (frame + 1) % FRAMES;
+        frameCount = Math.min(frameCount + 1, FRAMES);
+        frameStart = now;
+        resetFrame();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled)
+            return;
+
+        this.enabled = enabled;
+        if (enabled) {
+            clear();
+        }
+
+        resetFrame();
+        Arrays.fill(depths, 0);
+        stackSize = 0;
+        frameStart = 0;
+    }
+
+    public void toggle() {
+        setEnabled(!enabled);
+    }
+
+    public void clear() {
+        frame = 0;
+        frameCount = 0;
+    }
+
+    /**
+     * @return Whether allocations can be measured by this JVM, if not they're always recorded as 0.
+     */
+    public boolean isAllocationSupported() {
+        return allocationSupported;
+    }
+
+    /**
+     * @return The amount of frames recorded, up to {@link #FRAMES}.
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return The average time spent in the section per frame, in nanoseconds.
+     */
+    public long getAverageNanos(Section section) {
+        return average(recordedNanos, section);
+    }
+
+    /**
+     * @return The average amount of bytes allocated in the section per frame.
+     */
+    public long getAverageAllocated(Section section) {
+        return average(recordedAllocated, section);
+    }
+
+    /**
+     * @return The average time between frames, in nanoseconds.
+     */
+    public long getAverageFrameNanos() {
+        if (frameCount == 0)
+            return 0;
+
+        long total = 0;
+        for (int i = 0; i < frameCount; i++) {
+            total += frameNanos[i];
+        }
+
+        return total / frameCount;
+    }
+
+    /**
+     * @return The amount of draw calls made in the section during the last recorded frame.
+     */
+    public int getLastDrawCalls(Section section) {
+        if (frameCount == 0)
+            return 0;
+
+        return recordedDrawCalls[lastFrame() * SECTIONS.length + section.ordinal()];
+    }
+
+    /**
+     * @return The amount of times the section was entered during the last recorded frame.
+     */
+    public int getLastCalls(Section section) {
+        if (frameCount == 0)
+            return 0;
+
+        return recordedCalls[lastFrame() * SECTIONS.length + section.ordinal()];
+    }
+
+    /**
+     * Writes every recorded frame as a row of comma-separated values, oldest first.
+     */
+    public void exportCsv(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            StringBuilder header = new StringBuilder("frame,frame_ns");
+            for (Section section : SECTIONS) {
+                String name = section.name().toLowerCase(Locale.ROOT);
+                header.append(',').append(name).append("_ns")
+                        .append(',').append(name).append("_calls")
+                        .append(',').append(name).append("_draw_calls")
+                        .append(',').append(name).append("_allocated_bytes");
+            }
+            writer.println(header);
+
+            int first = frameCount < FRAMES ? 0 : frame;
+            StringBuilder row = new StringBuilder();
+            for (int i = 0; i < frameCount; i++) {
+                int index = (first + i) % FRAMES;
+                int offset = index * SECTIONS.length;
+                row.setLength(0);
+                row.append(i).append(',').append(frameNanos[index]);
+                for (int j = 0; j < SECTIONS.length; j++) {
+                    row.append(',').append(recordedNanos[offset + j])
+                            .append(',').append(recordedCalls[offset + j])
+                            .append(',').append(recordedDrawCalls[offset + j])
+                            .append(',').append(recordedAllocated[offset + j]);
+                }
+                writer.println(row);
+            }
+        }
+    }
+
+    private long average(long[] recorded, Section section) {
+        if (frameCount == 0)
+            return 0;
+
+        long total = 0;
+        for (int i = 0; i < frameCount; i++) {
+            total += recorded[i * SECTIONS.length + section.ordinal()];
+        }
+
+        return total / frameCount;
+    }
+
+    private int lastFrame() {
+        return (frame + FRAMES - 1) % FRAMES;
+    }
+
+    private void resetFrame() {
+        for (int i = 0; i < SECTIONS.length; i++) {
+            nanos[i] = 0;
+            calls[i] = 0;
+            drawCalls[i] = 0;
+            allocated[i] = 0;
+        }
+    }
+
+    private long getAllocatedBytes() {
+        if (!allocationSupported)
+            return 0;
+
+        reads++;
+        return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * @return The least amount of bytes seen between two reads of the allocation counter with nothing in between.
+     */
+    private long measureReadOverhead() {
+        if (!allocationSupported)
+            return 0;
+
+        long least = Long.MAX_VALUE;
+        for (int i = 0; i < 16; i++) {
+            long first = getAllocatedBytes();
+            least = Math.min(least, getAllocatedBytes() - first);
+        }
+
+        return Math.max(0, least);
+    }
+
+    public enum Section {
+        HUD_RENDER,
+        RENDER_TICK,
+        NOTIFICATIONS,
+        COSMETICS,
+        FONT_RENDERER
+    }
+
+}
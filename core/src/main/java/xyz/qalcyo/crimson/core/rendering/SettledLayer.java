@@ -0,0 +1,71 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.rendering;
+
+import xyz.qalcyo.crimson.core.CrimsonConstants;
+
+/**
+ * A layer which is drawn normally while it's being interacted with, and only
+ * cached once there's been no input for {@link #SETTLE_TIME}, so hover effects
+ * and animations still play out.
+ */
+public class SettledLayer {
+
+    public static final long SETTLE_TIME = 1000;
+
+    private ILayerCache cache;
+    private long lastInput = System.currentTimeMillis();
+    private int mouseX = Integer.MIN_VALUE;
+    private int mouseY = Integer.MIN_VALUE;
+
+    public void draw(int mouseX, int mouseY, Runnable draw) {
+        if (mouseX != this.mouseX || mouseY != this.mouseY) {
+            this.mouseX = mouseX;
+            this.mouseY = mouseY;
+            input();
+        }
+
+        if (System.currentTimeMillis() - lastInput < SETTLE_TIME) {
+            draw.run();
+            return;
+        }
+
+        if (cache == null)
+            cache = CrimsonConstants.getInstance().getRenderHelper().createLayerCache();
+        cache.render(draw);
+    }
+
+    /**
+     * Marks the layer as dirty and draws it directly until it settles again.
+     */
+    public void input() {
+        lastInput = System.currentTimeMillis();
+        if (cache != null) {
+            cache.markDirty();
+        }
+    }
+
+    public void delete() {
+        if (cache != null) {
+            cache.delete();
+            cache = null;
+        }
+    }
+
+}
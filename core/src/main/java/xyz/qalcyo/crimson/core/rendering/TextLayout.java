@@ -0,0 +1,127 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.rendering;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, pre-wrapped block of text.
+ *
+ * Layouts are only valid for the text, width and font generation they were created with, use
+ * {@link #matches(String, int, int)} to check whether one can still be drawn from.
+ */
+public final class TextLayout {
+
+    private final String text;
+    private final int wrapWidth;
+    private final int generation;
+    private final List<String> lines;
+    private final int[] widths;
+    private final int width;
+    private final int lineHeight;
+
+    private TextLayout(String text, int wrapWidth, int generation, List<String> lines, int[] widths, int width, int lineHeight) {
+        this.text = text;
+        this.wrapWidth = wrapWidth;
+        this.generation = generation;
+        this.lines = lines;
+        this.widths = widths;
+        this.width = width;
+        this.lineHeight = lineHeight;
+    }
+
+    /**
+     * Wraps the text given and measures it's lines.
+     *
+     * @param renderer The font renderer to measure the text with.
+     * @param text     The text to lay out.
+     * @param width    The maximum width of each line.
+     * @return The new layout.
+     */
+    public static TextLayout create(IEnhancedFontRenderer renderer, String text, int width) {
+        int generation = renderer.getGeneration();
+        LineBuffer buffer = new LineBuffer();
+        renderer.wrapText(text, width, buffer);
+
+        List<String> lines = new ArrayList<>(buffer.size());
+        int[] widths = new int[buffer.size()];
+        for (int i = 0; i < buffer.size(); i++) {
+            lines.add(buffer.getFormatting(i) + text.substring(buffer.getStart(i), buffer.getEnd(i)));
+            widths[i] = buffer.getWidth(i);
+        }
+
+        return new TextLayout(text, width, generation, Collections.unmodifiableList(lines), widths, buffer.getMaxWidth(), renderer.getFontHeight());
+    }
+
+    /**
+     * @return Whether this layout was created from the same text and width, with the same font state.
+     */
+    public boolean matches(String text, int width, int generation) {
+        return this.wrapWidth == width && this.generation == generation && this.text.equals(text);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public int getWrapWidth() {
+        return wrapWidth;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public List<String> getLines() {
+        return lines;
+    }
+
+    public int getLineCount() {
+        return lines.size();
+    }
+
+    public String getLine(int line) {
+        return lines.get(line);
+    }
+
+    public int getLineWidth(int line) {
+        return widths[line];
+    }
+
+    /**
+     * @return The width of the widest line.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    public int getLineHeight() {
+        return lineHeight;
+    }
+
+    /**
+     * @return The height of every line combined.
+     */
+    public int getHeight() {
+        return lines.size() * lineHeight;
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package xyz.qalcyo.crimson.core.rendering;
+
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/**
+ * A chain of pure text transformers applied to every string the font renderer draws or measures.
+ *
+ * Transformers should return the exact string they were given when they don't apply to it, which lets
+ * untouched text pass straight through. Results are cached by the identity of the input string, since
+ * HUD and GUI text is usually drawn from the same string instance every frame.
+ */
+public class TextTransformers {
+
+    private static final int CACHE_SIZE = 256;
+
+    /* The chain and it's cache are swapped together, so text is never cached against the wrong chain. */
+    private volatile State state = new State(create(0), 0);
+
+    /**
+     * Adds a transformer to the end of the chain.
+     *
+     * @param transformer The transformer to add, which must not depend on anything but it's input.
+     */
+    public synchronized void register(UnaryOperator<String> transformer) {
+        State state = this.state;
+        UnaryOperator<String>[] value = Arrays.copyOf(state.chain, state.chain.length + 1);
+        value[state.chain.length] = transformer;
+        this.state = new State(value, state.version + 1);
+    }
+
+    /**
+     * Removes a transformer from the chain.
+     *
+     * @param transformer The transformer to remove.
+     */
+    public synchronized void unregister(UnaryOperator<String> transformer) {
+        State state = this.state;
+        UnaryOperator<String>[] value = create(state.chain.length);
+        int size = 0;
+        for (UnaryOperator<String> operator : state.chain) {
+            if (operator != transformer) {
+                value[size++] = operator;
+            }
+        }
+
+        this.state = new State(Arrays.copyOf(value, size), state.version + 1);
+    }
+
+    /**
+     * @return Whether any transformers are registered.
+     */
+    public boolean isEmpty() {
+        return state.chain.length == 0;
+    }
+
+    /**
+     * @return A counter which changes each time the chain does, for callers caching transformed output.
+     */
+    public int getVersion() {
+        return state.version;
+    }
+
+    /**
+     * Passes the text given through every transformer in order.
+     *
+     * @param text The text to transform.
+     * @return The transformed text, or the same instance if nothing changed it.
+     */
+    public String apply(String text) {
+        State state = this.state;
+        if (text == null || state.chain.length == 0)
+            return text;
+
+        int index = System.identityHashCode(text) & (CACHE_SIZE - 1);
+        Entry entry = state.entries[index];
+        if (entry != null && entry.input == text)
+            return entry.output;
+
+        String value = text;
+        for (UnaryOperator<String> operator : state.chain) {
+            value = operator.apply(value);
+        }
+
+        state.entries[index] = new Entry(text, value);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UnaryOperator<String>[] create(int size) {
+        return new UnaryOperator[size];
+    }
+
+    private static final class State {
+        private final UnaryOperator<String>[] chain;
+        private final int version;
+        private final Entry[] entries = new Entry[CACHE_SIZE];
+
+        private State(UnaryOperator<String>[] chain, int version) {
+            this.chain = chain;
+            this.version = version;
+        }
+    }
+
+    private static final class Entry {
+        private final String input;
+        private final String output;
+
+        private Entry(String input, String output) {
+            this.input = input;
+            this.output = output;
+        }
+    }
+
+}
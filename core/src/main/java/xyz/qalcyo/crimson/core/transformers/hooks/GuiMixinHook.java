@@ -19,42 +19,102 @@
 package xyz.qalcyo.crimson.core.transformers.hooks;
 
 import gg.essential.elementa.components.Window;
+import xyz.qalcyo.crimson.core.rendering.SettledLayer;
 
 public abstract class GuiMixinHook<T> extends MixinHook<T> {
 
+    /* Only one screen is open at a time, so every cached hook shares a single layer, released when it's screen closes. */
+    private static final SettledLayer LAYER = new SettledLayer();
+    private static GuiMixinHook<?> layerOwner;
+
     private final Window window;
+    private final Runnable drawWindow;
+    private final boolean cached;
 
-    public GuiMixinHook(T instance, Window window) {
+    /**
+     * @param cached Whether the window is drawn through a cached layer once it settles, which
+     *               is only worth it for windows costing more than compositing a full-screen quad.
+     */
+    public GuiMixinHook(T instance, Window window, boolean cached) {
         super(instance);
         this.window = window;
+        this.drawWindow = window::draw;
+        this.cached = cached;
+    }
+
+    public GuiMixinHook(T instance, Window window) {
+        this(instance, window, true);
+    }
+
+    public GuiMixinHook(T instance, boolean cached) {
+        this(instance, new Window(244), cached);
     }
 
     public GuiMixinHook(T instance) {
-        this(instance, new Window(244));
+        this(instance, true);
     }
 
     public void initialize() {
         window.onWindowResize();
+        input();
     }
 
     public void draw(int mouseX, int mouseY, float partialTicks) {
-        window.draw();
+        if (!cached) {
+            window.draw();
+            return;
+        }
+
+        if (layerOwner != this) {
+            layerOwner = this;
+            LAYER.input();
+        }
+
+        LAYER.draw(mouseX, mouseY, drawWindow);
     }
 
     public void mouseClicked(int mouseX, int mouseY, int mouseButton) {
         window.mouseClick(mouseX, mouseY, mouseButton);
+        input();
     }
 
     public void mouseReleased(int mouseX, int mouseY, int mouseButton) {
         window.mouseRelease();
+        input();
     }
 
     public void mouseDrag() {
         window.mouseMove(window);
+        input();
+    }
+
+    /**
+     * Forces the window to be redrawn, for changes which don't come from input.
+     */
+    public void markDirty() {
+        input();
     }
 
     public Window getWindow() {
         return window;
     }
 
-}
\ No newline at end of file
+    private void input() {
+        if (layerOwner == this) {
+            LAYER.input();
+        }
+    }
+
+    /**
+     * Deletes the shared layer if it belongs to the screen given, so neither the screen nor the layer's framebuffer outlive it.
+     *
+     * @param screen The screen being closed.
+     */
+    public static void close(Object screen) {
+        if (layerOwner != null && layerOwner.getInstance() == screen) {
+            layerOwner = null;
+            LAYER.delete();
+        }
+    }
+
+}
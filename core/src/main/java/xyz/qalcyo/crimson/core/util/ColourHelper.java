@@ -19,25 +19,60 @@
 package xyz.qalcyo.crimson.core.util;
 
 import xyz.qalcyo.crimson.core.data.ColourRGB;
+import xyz.qalcyo.crimson.core.data.PackedColour;
 
 import java.awt.*;
 
 public class ColourHelper {
 
+    /* The time, in milliseconds, it takes chroma colours to cycle through every hue. */
+    private static final double CHROMA_PERIOD = 2000;
+
+    private final int[] chromaTable;
+    private final double chromaScale;
+
+    public ColourHelper() {
+        this(1024);
+    }
+
+    /**
+     * @param chromaResolution The amount of hues to precompute for chroma colours.
+     */
+    public ColourHelper(int chromaResolution) {
+        chromaTable = new int[chromaResolution];
+        for (int i = 0; i < chromaResolution; i++) {
+            chromaTable[i] = Color.HSBtoRGB(i / (float) chromaResolution, 1.0f, 1.0f);
+        }
+
+        chromaScale = chromaResolution / CHROMA_PERIOD;
+    }
+
     /**
      * @return A changing colour based on the users' computer time. Simulates a "chroma" colour.
      */
     public int timeBasedChroma() {
-        long l = System.currentTimeMillis();
-        return Color.HSBtoRGB(l % 2000L / 2000.0f, 1.0f, 1.0f);
+        return chroma(0, 0, System.currentTimeMillis());
     }
 
     /**
      * @return A ColourRGB instance based on the users' computer time and the positions provided, which when used multiple times can simulate a "chroma" colour.
      */
     public ColourRGB getChroma(double x, double y) {
-        float v = 2000.0f;
-        return new ColourRGB(Color.HSBtoRGB((float)((System.currentTimeMillis() - x * 10.0 * 1.0 - y * 10.0 * 1.0) % v) / v, 1.0f, 1.0f));
+        return new ColourRGB(chroma(x, y, System.currentTimeMillis()));
+    }
+
+    /**
+     * @return The RGB value of the "chroma" colour at the positions and time provided, looked up from a precomputed table of hues.
+     * @see #getChroma(double, double)
+     */
+    public int chroma(double x, double y, long time) {
+        double phase = (time - (x + y) * 10.0) % CHROMA_PERIOD;
+        if (phase < 0) {
+            phase += CHROMA_PERIOD;
+        }
+
+        int index = (int) (phase * chromaScale);
+        return chromaTable[index < chromaTable.length ? index : chromaTable.length - 1];
     }
 
     /**
@@ -47,4 +82,28 @@ public class ColourHelper {
         return (colour >> 24 & 255);
     }
 
+    /**
+     * @return The colour given with it's alpha replaced.
+     * @see PackedColour#withAlpha(int, int)
+     */
+    public int withAlpha(int colour, int alpha) {
+        return PackedColour.withAlpha(colour, alpha);
+    }
+
+    /**
+     * @return A colour between the two given, based on the progress from 0 to 1.
+     * @see PackedColour#lerp(int, int, float)
+     */
+    public int lerp(int from, int to, float progress) {
+        return PackedColour.lerp(from, to, progress);
+    }
+
+    /**
+     * @return The colour with the hue, saturation and brightness given, from 0 to 1.
+     * @see PackedColour#fromHsb(float, float, float, int)
+     */
+    public int fromHsb(float hue, float saturation, float brightness, int alpha) {
+        return PackedColour.fromHsb(hue, saturation, brightness, alpha);
+    }
+
 }
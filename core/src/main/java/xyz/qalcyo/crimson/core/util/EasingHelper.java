@@ -18,161 +18,144 @@
 
 package xyz.qalcyo.crimson.core.util;
 
+import xyz.qalcyo.crimson.core.animation.EasingType;
+
 /**
  * Different easings, view representations here: https://easings.net/
- * Should be used in things like UI animation.
+ * Should be used in things like UI animation, see {@link EasingType} for the curves themselves.
  *
  * @author Basilicous
  */
 public class EasingHelper {
 
-    public double easeInSine(int n) {
-        return 1 - Math.cos((n * Math.PI) / 2);
+    /**
+     * @param t The progress, from 0 to 1.
+     * @param tabulated Whether to use a precomputed table for the more expensive curves.
+     * @return The eased progress.
+     * @see EasingType#tabulated()
+     */
+    public double ease(EasingType type, double t, boolean tabulated) {
+        return (tabulated ? type.tabulated() : type).ease(t);
     }
 
-    public double easeOutSine(int n) {
-        return Math.sin((n * Math.PI) / 2);
+    public double easeInSine(double t) {
+        return EasingType.IN_SINE.ease(t);
     }
 
-    public double easeInOutSine(int n) {
-        return -(Math.cos(Math.PI * n) - 1) / 2;
+    public double easeOutSine(double t) {
+        return EasingType.OUT_SINE.ease(t);
     }
 
-    public double easeInCubic(int n) {
-        return n ^ 3;
+    public double easeInOutSine(double t) {
+        return EasingType.IN_OUT_SINE.ease(t);
     }
 
-    public double easeOutCubic(int n) {
-        return 1 - Math.pow(1 - n, 3);
+    public double easeInCubic(double t) {
+        return EasingType.IN_CUBIC.ease(t);
     }
 
-    public double easeInOutCubic(int n) {
-        return n < 0.5 ? 4 * n ^ 3 : 1 - Math.pow(-2 * n + 2, 3) / 2;
+    public double easeOutCubic(double t) {
+        return EasingType.OUT_CUBIC.ease(t);
     }
 
-    public double easeInQuint(int n) {
-        return n ^ 5;
+    public double easeInOutCubic(double t) {
+        return EasingType.IN_OUT_CUBIC.ease(t);
     }
 
-    public double easeOutQuint(int n) {
-        return 1 - Math.pow(1 - n, 5);
+    public double easeInQuint(double t) {
+        return EasingType.IN_QUINT.ease(t);
     }
 
-    public double easeInOutQuint(int n) {
-        return n < 0.5 ? 16 * n ^ 5 : 1 - Math.pow(-2 * n + 2, 5) / 2;
+    public double easeOutQuint(double t) {
+        return EasingType.OUT_QUINT.ease(t);
     }
 
-    public double easeInCirc(int n) {
-        return 1 - Math.sqrt(1 - Math.pow(n, 2));
+    public double easeInOutQuint(double t) {
+        return EasingType.IN_OUT_QUINT.ease(t);
     }
 
-    public double easeOutCirc(int n) {
-        return Math.sqrt(1 - Math.pow(n - 1, 2));
+    public double easeInCirc(double t) {
+        return EasingType.IN_CIRC.ease(t);
     }
 
-    public double easeInOutCirc(int n) {
-        return n < 0.5 ? (1 - Math.sqrt(1 - Math.pow(2 * n, 2))) / 2 : (Math.sqrt(1 - Math.pow(-2 * n + 2, 2)) + 1) / 2;
+    public double easeOutCirc(double t) {
+        return EasingType.OUT_CIRC.ease(t);
     }
 
-    public double easeInElastic(int n) {
-        final double c4 = (2 * Math.PI) / 3;
-
-        return n == 0 ? 0 : n == 1 ? 1 : -Math.pow(2, 10 * n - 10) * Math.sin((n * 10 - 10.75) * c4);
-
+    public double easeInOutCirc(double t) {
+        return EasingType.IN_OUT_CIRC.ease(t);
     }
 
-    public double easeOutElastic(int n) {
-        final double c4 = (2 * Math.PI) / 3;
-
-        return n == 0 ? 0 : n == 1 ? 1 : Math.pow(2, -10 * n - 10) * Math.sin((n * 10 - 0.75) * c4) + 1;
-
+    public double easeInElastic(double t) {
+        return EasingType.IN_ELASTIC.ease(t);
     }
 
-    public double easeInOutElastic(int n) {
-        final double c5 = (2 * Math.PI) / 4.5;
-
-        return n == 0 ? 0 : n == 1 ? 1 : n < 0.5 ? -(Math.pow(2, 20 * n - 10) * Math.sin((20 * n - 11.125) * c5)) / 2 : (Math.pow(2, -20 * n + 10) * Math.sin((20 * n - 11.125) * c5)) / 2 + 1;
-
+    public double easeOutElastic(double t) {
+        return EasingType.OUT_ELASTIC.ease(t);
     }
 
-    public double easeInQuad(int n) {
-        return n ^ 2;
+    public double easeInOutElastic(double t) {
+        return EasingType.IN_OUT_ELASTIC.ease(t);
     }
 
-    public double easeOutQuad(int n) {
-        return 1 - (1 - n) * (1 - n);
+    public double easeInQuad(double t) {
+        return EasingType.IN_QUAD.ease(t);
     }
 
-    public double easeInOutQuad(int n) {
-        return n < 0.5 ? 2 * n ^ 2 : 1 - Math.pow(-2 * n + 2, 2) / 2;
+    public double easeOutQuad(double t) {
+        return EasingType.OUT_QUAD.ease(t);
     }
 
-    public double easeInQuart(int n) {
-        return n ^ 4;
+    public double easeInOutQuad(double t) {
+        return EasingType.IN_OUT_QUAD.ease(t);
     }
 
-    public double easeOutQuart(int n) {
-        return 1 - Math.pow(1 - n, 4);
+    public double easeInQuart(double t) {
+        return EasingType.IN_QUART.ease(t);
     }
 
-    public double easeInOutQuart(int n) {
-        return n < 0.5 ? 8 * n ^ 4 : 1 - Math.pow(-2 * n + 2, 4) / 2;
+    public double easeOutQuart(double t) {
+        return EasingType.OUT_QUART.ease(t);
     }
 
-    public double easeInExpo(int n) {
-        return n == 0 ? 0 : Math.pow(2, 10 * n - 10);
+    public double easeInOutQuart(double t) {
+        return EasingType.IN_OUT_QUART.ease(t);
     }
 
-    public double easeOutExpo(int n) {
-        return n == 1 ? 1 : 1 - Math.pow(2, -10 * n);
+    public double easeInExpo(double t) {
+        return EasingType.IN_EXPO.ease(t);
     }
 
-    public double easeInOutExpo(int n) {
-        return n == 0 ? 0 : n == 1 ? 1 : n < 0.5 ? Math.pow(2, 20 * n - 10) / 2 : (2 - Math.pow(2, -20 * n + 10)) / 2;
+    public double easeOutExpo(double t) {
+        return EasingType.OUT_EXPO.ease(t);
     }
 
-    public double easeInBack(int n) {
-        final double c1 = 1.70158;
-        final double c3 = c1 + 1;
-
-        return c3 * n * n * n - c1 * n * n;
+    public double easeInOutExpo(double t) {
+        return EasingType.IN_OUT_EXPO.ease(t);
     }
 
-    public double easeOutBack(int n) {
-        final double c1 = 1.70158;
-        final double c3 = c1 + 1;
-
-        return 1 + c3 * Math.pow(n - 1, 3) + c1 * Math.pow(n - 1, 2);
+    public double easeInBack(double t) {
+        return EasingType.IN_BACK.ease(t);
     }
 
-    public double easeInOutBack(int n) {
-        final double c1 = 1.70158;
-        final double c2 = c1 * 1.525;
-
-        return n < 0.5 ? (Math.pow(2 * n, 2) * ((c2 + 1) * 2 * n - c2)) / 2 : (Math.pow(2 * n - 2, 2) * ((c2 + 1) * (n * 2 - 2) + c2) + 2) / 2;
+    public double easeOutBack(double t) {
+        return EasingType.OUT_BACK.ease(t);
     }
 
-    public double easeOutBounce(int n) {
-        final double n1 = 7.5625;
-        final double d1 = 2.75;
+    public double easeInOutBack(double t) {
+        return EasingType.IN_OUT_BACK.ease(t);
+    }
 
-        if (n < 1 / d1) {
-            return n1 * n * n;
-        } else if (n < 2 / d1) {
-            return n1 * (n -= 1.5 / d1) * n + 0.75;
-        } else if (n < 2.5 / d1) {
-            return n1 * (n -= 2.25 / d1) * n + 0.9375;
-        } else {
-            return n1 * (n -= 2.625 / d1) * n + 0.984375;
-        }
+    public double easeOutBounce(double t) {
+        return EasingType.OUT_BOUNCE.ease(t);
     }
 
-    public double easeInBounce(int n) {
-        return 1 - easeOutBounce(1 - n);
+    public double easeInBounce(double t) {
+        return EasingType.IN_BOUNCE.ease(t);
     }
 
-    public double easeInOutBounce(int n) {
-        return n < 0.5 ? (1 - easeOutBounce(1 - 2 * n)) / 2 : (1 + easeOutBounce(2 * n - 1)) / 2;
+    public double easeInOutBounce(double t) {
+        return EasingType.IN_OUT_BOUNCE.ease(t);
     }
 
-}
\ No newline at end of file
+}
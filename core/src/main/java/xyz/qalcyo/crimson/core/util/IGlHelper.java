@@ -24,5 +24,63 @@ public interface IGlHelper {
 
     void endScissorBox();
 
+    /**
+     * Clips rendering to the intersection of the box given and the current scissor box, if any.
+     * Must be followed by a matching {@link #popScissor()}.
+     */
+    void pushScissor(double x, double y, double width, double height);
+
+    /**
+     * Restores the scissor box that was active before the last push, disabling scissoring if there was none.
+     */
+    void popScissor();
+
+    /**
+     * @return The amount of nested scissor boxes currently active.
+     */
+    int getScissorDepth();
+
+    /**
+     * @return Whether anything drawn within the bounds given would be visible within the current scissor box.
+     */
+    boolean isVisible(double x, double y, double width, double height);
+
     void totalScissor(double xPosition, double yPosition, double width, double height);
+
+    /* State changes, made through the game's own state cache where it has one so redundant changes are skipped. */
+
+    /**
+     * Enables or disables blending, skipping the change if it's already in that state.
+     */
+    void setBlend(boolean enabled);
+
+    /**
+     * Enables or disables 2D texturing, skipping the change if it's already in that state.
+     */
+    void setTexture2D(boolean enabled);
+
+    /**
+     * Enables or disables the scissor test. The game doesn't cache it, so this always reaches GL.
+     */
+    void setScissor(boolean enabled);
+
+    /**
+     * Sets the current colour, skipping the change if it's already that colour.
+     */
+    void setColour(float red, float green, float blue, float alpha);
+
+    /**
+     * Sets the current colour from an ARGB integer, skipping the change if it's already that colour.
+     */
+    default void setColour(int colour) {
+        setColour((colour >> 16 & 255) / 255f, (colour >> 8 & 255) / 255f, (colour & 255) / 255f, (colour >> 24 & 255) / 255f);
+    }
+
+    /**
+     * Only counts the scissor test not being enabled again for nested scissor boxes, skipping
+     * anything else is left to the game's cache which would have skipped it before reaching GL anyway.
+     *
+     * @return How many calls to GL were saved by skipping state changes during the previous frame.
+     */
+    int getAvoidedStateChanges();
 }
\ No newline at end of file
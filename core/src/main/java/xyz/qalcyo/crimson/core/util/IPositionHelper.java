@@ -23,4 +23,15 @@ import xyz.qalcyo.crimson.core.data.IScreenPosition;
 public interface IPositionHelper {
     IScreenPosition createDefaultPosition();
     IScreenPosition createPosition(float x, float y);
+
+    /*
+     * The resolution is captured once per frame and when the window is resized,
+     * so these can be called as often as needed without recalculating it.
+     */
+
+    int getDisplayWidth();
+    int getDisplayHeight();
+    int getScaledWidth();
+    int getScaledHeight();
+    int getScaleFactor();
 }
\ No newline at end of file
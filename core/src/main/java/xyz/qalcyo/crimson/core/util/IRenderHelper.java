@@ -18,6 +18,9 @@
 
 package xyz.qalcyo.crimson.core.util;
 
+import xyz.qalcyo.crimson.core.rendering.IBatch2D;
+import xyz.qalcyo.crimson.core.rendering.ILayerCache;
+
 public interface IRenderHelper {
 
     /* Will be re-added at a later date.
@@ -57,4 +60,53 @@ public interface IRenderHelper {
      * Draw a vertical line based on the given parameters.
      */
     void drawVerticalLine(int x, int start, int end, int thickness, int colour);
-}
\ No newline at end of file
+
+    /**
+     * Creates a new, empty batch for drawing many shapes in a single draw call.
+     */
+    IBatch2D createBatch();
+
+    /**
+     * Creates a new layer cache, which renders into a framebuffer and composites it until it's marked as dirty.
+     */
+    ILayerCache createLayerCache();
+
+    /**
+     * Adds a rectangle to the batch based on the given parameters.
+     */
+    default void drawRect(IBatch2D batch, int left, int top, int right, int bottom, int colour) {
+        batch.rect(Math.min(left, right), Math.min(top, bottom), Math.max(left, right), Math.max(top, bottom), colour);
+    }
+
+    /**
+     * Adds a rectangle to the batch based on the given parameters.
+     */
+    default void drawRectEnhanced(IBatch2D batch, int x, int y, int width, int height, int colour) {
+        drawRect(batch, x, y, x + width, y + height, colour);
+    }
+
+    /**
+     * Adds a hollow rectangle to the batch based on the given parameters.
+     */
+    default void drawHollowRect(IBatch2D batch, int x, int y, int width, int height, int thickness, int colour) {
+        drawHorizontalLine(batch, x, x + width, y, thickness, colour);
+        drawHorizontalLine(batch, x, x + width, y + height, thickness, colour);
+        drawVerticalLine(batch, x, y + height, y, thickness, colour);
+        drawVerticalLine(batch, x + width, y + height, y, thickness, colour);
+    }
+
+    /**
+     * Adds a horizontal line to the batch based on the given parameters.
+     */
+    default void drawHorizontalLine(IBatch2D batch, int start, int end, int y, int thickness, int colour) {
+        drawRect(batch, Math.min(start, end), y, Math.max(start, end) + thickness, y + thickness, colour);
+    }
+
+    /**
+     * Adds a vertical line to the batch based on the given parameters.
+     */
+    default void drawVerticalLine(IBatch2D batch, int x, int start, int end, int thickness, int colour) {
+        drawRect(batch, x, Math.min(start, end) + thickness, x + thickness, Math.max(start, end), colour);
+    }
+
+}
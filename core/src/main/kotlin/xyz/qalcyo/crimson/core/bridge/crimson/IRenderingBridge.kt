@@ -19,6 +19,7 @@
 package xyz.qalcyo.crimson.core.bridge.crimson
 
 import xyz.qalcyo.crimson.core.bridge.IBridgeContainer
+import xyz.qalcyo.crimson.core.rendering.IMesh
 import xyz.qalcyo.crimson.core.util.VertexFormats
 
 /**
@@ -36,4 +37,28 @@ interface IRenderingBridge : IBridgeContainer {
     fun tex(u: Number, v: Number): IRenderingBridge
     fun col(r: Int, g: Int, b: Int, a: Int = 255): IRenderingBridge
     fun col(r: Float, g: Float, b: Float, a: Float = 1.0f): IRenderingBridge
+
+    /* Primitive overloads, which don't box their arguments. */
+    fun pos(x: Double, y: Double, z: Double): IRenderingBridge
+    fun tex(u: Double, v: Double): IRenderingBridge
+
+    /**
+     * @param argb The colour packed as an ARGB integer, the same as Minecraft's colours.
+     */
+    fun col(argb: Int): IRenderingBridge
+
+    fun normal(x: Float, y: Float, z: Float): IRenderingBridge
+    fun lightmap(sky: Int, block: Int): IRenderingBridge
+
+    /**
+     * Starts building a mesh, following vertices are stored in it instead of being drawn.
+     */
+    fun beginMesh(glMode: Int, vertexFormat: VertexFormats)
+
+    /**
+     * Finishes the mesh started by [beginMesh], uploading it's vertices in one go.
+     *
+     * @return The mesh, which can be drawn any amount of times until it's deleted.
+     */
+    fun endMesh(): IMesh
 }
\ No newline at end of file
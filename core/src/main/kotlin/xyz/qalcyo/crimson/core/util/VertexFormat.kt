@@ -22,5 +22,10 @@ enum class VertexFormats {
     POSITION,
     POSITION_COLOR,
     POSITION_TEXTURE,
-    POSITION_COLOR_TEXTURE
+    POSITION_COLOR_TEXTURE,
+    POSITION_NORMAL,
+    POSITION_TEXTURE_NORMAL,
+    POSITION_COLOR_TEXTURE_NORMAL,
+    POSITION_TEXTURE_LIGHTMAP_COLOR,
+    POSITION_COLOR_TEXTURE_LIGHTMAP
 }
\ No newline at end of file
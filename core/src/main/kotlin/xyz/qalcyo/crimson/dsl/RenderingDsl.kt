@@ -19,13 +19,20 @@
 package xyz.qalcyo.crimson.dsl
 
 import xyz.qalcyo.crimson.core.CrimsonAPI
+import xyz.qalcyo.crimson.core.bridge.crimson.IRenderingBridge
+import xyz.qalcyo.crimson.core.data.PackedColour
 import xyz.qalcyo.crimson.core.util.VertexFormats
 import java.awt.Color
 
-private val renderer = CrimsonAPI.retrieveInstance().bridge.renderingBridge
+@PublishedApi
+internal val renderer: IRenderingBridge = CrimsonAPI.retrieveInstance().bridge.renderingBridge
 
-fun tessellate(glMode: Int, vertexFormat: VertexFormats, worldRendererScope: WorldRendererScope.() -> Unit) {
-    WorldRendererScope(glMode, vertexFormat).apply(worldRendererScope)
+/**
+ * Builds and draws vertices. Both this and [WorldRendererScope.vertex] are inlined, and vertex
+ * attributes are kept as primitives, so no objects are created per vertex.
+ */
+inline fun tessellate(glMode: Int, vertexFormat: VertexFormats, worldRendererScope: WorldRendererScope.() -> Unit) {
+    WorldRendererScope(glMode, vertexFormat).worldRendererScope()
     renderer.end()
     renderer.draw()
 }
@@ -34,45 +41,99 @@ class WorldRendererScope(
     glMode: Int,
     vertexFormat: VertexFormats,
 ) {
+    @PublishedApi
+    internal val vertexScope = VertexScope()
+
     init {
         renderer.begin(glMode, vertexFormat)
     }
 
-    fun vertex(vertexScope: VertexScope.() -> Unit) {
-        with(VertexScope().apply(vertexScope)) {
-            if (pos != null) renderer.pos(pos!!.first, pos!!.second, pos!!.third)
-            if (tex != null) renderer.tex(tex!!.first, tex!!.second)
-            if (color != null) renderer.col(color!!.red, color!!.green, color!!.blue, color!!.alpha)
-        }
+    inline fun vertex(vertexScope: VertexScope.() -> Unit) {
+        this.vertexScope.vertexScope()
+        this.vertexScope.emit()
+    }
+
+    fun vertex(x: Double, y: Double, z: Double) {
+        renderer.pos(x, y, z)
+        renderer.nextVertex()
+    }
+
+    fun vertex(x: Double, y: Double, z: Double, argb: Int) {
+        renderer.pos(x, y, z).col(argb)
+        renderer.nextVertex()
+    }
+
+    fun vertex(x: Double, y: Double, z: Double, u: Double, v: Double) {
+        renderer.pos(x, y, z).tex(u, v)
+        renderer.nextVertex()
+    }
+
+    fun vertex(x: Double, y: Double, z: Double, u: Double, v: Double, argb: Int) {
+        renderer.pos(x, y, z).tex(u, v).col(argb)
         renderer.nextVertex()
     }
 }
 
+/**
+ * The attributes of the vertex being built, reused for every vertex of a [WorldRendererScope].
+ */
 class VertexScope {
-    var pos: Triple<Double, Double, Double>? = null
-        private set
-    var tex: Pair<Double, Double>? = null
-        private set
-    var color: Color? = null
-        private set
-
-    fun pos(x: Number, y: Number, z: Number) {
-        pos = Triple(x.toDouble(), y.toDouble(), z.toDouble())
+    private var hasPos = false
+    private var x = 0.0
+    private var y = 0.0
+    private var z = 0.0
+    private var hasTex = false
+    private var u = 0.0
+    private var v = 0.0
+    private var hasColor = false
+    private var argb = 0
+
+    /* Only created when read, drawing never does. */
+    val pos: Triple<Double, Double, Double>?
+        get() = if (hasPos) Triple(x, y, z) else null
+    val tex: Pair<Double, Double>?
+        get() = if (hasTex) u to v else null
+    val color: Color?
+        get() = if (hasColor) Color(argb, true) else null
+
+    fun pos(x: Double, y: Double, z: Double) {
+        this.x = x
+        this.y = y
+        this.z = z
+        hasPos = true
     }
-    fun tex(u: Number, v: Number) {
-        tex = u.toDouble() to v.toDouble()
+    fun pos(x: Number, y: Number, z: Number) = pos(x.toDouble(), y.toDouble(), z.toDouble())
+    fun tex(u: Double, v: Double) {
+        this.u = u
+        this.v = v
+        hasTex = true
     }
+    fun tex(u: Number, v: Number) = tex(u.toDouble(), v.toDouble())
 
     fun color(red: Float, green: Float, blue: Float, alpha: Float = 1f) {
-        color = Color(red * 255, green * 255, blue * 255, alpha * 255)
+        color((red * 255).toInt(), (green * 255).toInt(), (blue * 255).toInt(), (alpha * 255).toInt())
     }
     fun color(red: Int, green: Int, blue: Int, alpha: Int = 255) {
-        color = Color(red, green, blue, alpha)
+        argb = PackedColour.argb(red, green, blue, alpha)
+        hasColor = true
     }
     fun color(rgba: Int) {
-        color = Color(rgba)
+        /* Like java.awt.Color's RGB constructor, the alpha of the value given is ignored. */
+        argb = rgba or -0x1000000
+        hasColor = true
     }
     fun color(color: Color) {
-        this.color = color
+        color(color.red, color.green, color.blue, color.alpha)
     }
-}
\ No newline at end of file
+
+    @PublishedApi
+    internal fun emit() {
+        if (hasPos) renderer.pos(x, y, z)
+        if (hasTex) renderer.tex(u, v)
+        if (hasColor) renderer.col(argb)
+        renderer.nextVertex()
+        hasPos = false
+        hasTex = false
+        hasColor = false
+    }
+}
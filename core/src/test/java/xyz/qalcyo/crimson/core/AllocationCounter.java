@@ -0,0 +1,69 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+package xyz.qalcyo.crimson.core;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures how many bytes the current thread allocates while running something.
+ */
+public final class AllocationCounter {
+
+    private static final int ROUNDS = 5;
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationCounter() {
+    }
+
+    public static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Warms the code up so it's measured once compiled, then measures it over a few rounds.
+     * The first rounds can include one-off allocations made while the code is being compiled,
+     * so the least of them is returned.
+     *
+     * @return The bytes allocated by a round of runs, excluding the cost of measuring.
+     */
+    public static long measure(int iterations, Runnable runnable) {
+        for (int i = 0; i < iterations; i++) {
+            runnable.run();
+        }
+
+        long least = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS && least > 0; round++) {
+            /* Reading the counter allocates on some JVMs, which is measured with nothing in between. */
+            long first = allocated();
+            long overhead = allocated() - first;
+            long before = allocated();
+            for (int i = 0; i < iterations; i++) {
+                runnable.run();
+            }
+
+            least = Math.min(least, allocated() - before - overhead);
+        }
+
+        return least;
+    }
+
+    private static long allocated() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+package xyz.qalcyo.crimson.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import xyz.qalcyo.crimson.core.events.RenderHudEvent;
+import xyz.qalcyo.crimson.core.events.RenderTickEvent;
+import xyz.qalcyo.crimson.core.events.TickEvent;
+import xyz.qalcyo.eventbus.SubscribeEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that posting the frame-rate events doesn't allocate once warmed up.
+ */
+public class InternalEventManagerAllocationTest {
+
+    private static final int ITERATIONS = 100000;
+
+    private static final Listener listener = new Listener();
+    private static InternalEventManager manager;
+
+    @BeforeAll
+    public static void setup() {
+        CrimsonAPI crimson = TestCrimson.install();
+        assumeTrue(crimson.getJavaArguments().isEventReuse(), "Event reuse is disabled.");
+        assumeTrue(AllocationCounter.isSupported(), "Allocations can't be measured by this JVM.");
+
+        crimson.getCrimsonEventBus().register(listener);
+        manager = new InternalEventManager();
+    }
+
+    @AfterAll
+    public static void cleanup() {
+        CrimsonAPI.retrieveInstance().getCrimsonEventBus().unregister(listener);
+    }
+
+    @Test
+    public void renderTickDoesNotAllocate() {
+        assertEquals(0, AllocationCounter.measure(ITERATIONS, () -> manager.handleRenderTick(0.5f)));
+    }
+
+    @Test
+    public void hudRenderDoesNotAllocate() {
+        assertEquals(0, AllocationCounter.measure(ITERATIONS, () -> manager.handleHudRender(0.5f)));
+    }
+
+    @Test
+    public void tickDoesNotAllocate() {
+        assertEquals(0, AllocationCounter.measure(ITERATIONS, manager::handleTick));
+    }
+
+    @Test
+    public void eventsReachSubscribers() {
+        int renderTicks = listener.renderTicks;
+        manager.handleRenderTick(0.25f);
+        assertEquals(renderTicks + 1, listener.renderTicks);
+        assertEquals(0.25f, listener.partialTicks);
+    }
+
+    public static class Listener {
+        private int renderTicks;
+        private float partialTicks;
+
+        @SubscribeEvent
+        public void onRenderTick(RenderTickEvent event) {
+            renderTicks++;
+            partialTicks = event.partialTicks;
+        }
+
+        @SubscribeEvent
+        public void onRenderHud(RenderHudEvent event) {
+            partialTicks = event.partialTicks;
+        }
+
+        @SubscribeEvent
+        public void onTick(TickEvent event) {
+        }
+    }
+
+}
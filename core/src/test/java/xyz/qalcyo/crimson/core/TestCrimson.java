@@ -0,0 +1,76 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+package xyz.qalcyo.crimson.core;
+
+import xyz.qalcyo.crimson.core.animation.AnimationScheduler;
+import xyz.qalcyo.crimson.core.bridge.IBridge;
+import xyz.qalcyo.crimson.core.events.CrimsonEventBus;
+import xyz.qalcyo.crimson.core.rendering.RenderProfiler;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Stands in for Crimson in tests of core classes which retrieve it's instance, providing it's own
+ * event bus, profiler and scheduler along with a bridge. Everything else returns null.
+ *
+ * The default implementations aren't used, as creating them registers listeners which need the game.
+ */
+public final class TestCrimson {
+
+    private static final CrimsonJavaArguments javaArguments = new CrimsonJavaArguments();
+    private static final CrimsonEventBus eventBus = new CrimsonEventBus();
+    private static final RenderProfiler renderProfiler = new RenderProfiler();
+    private static final AnimationScheduler animationScheduler = new AnimationScheduler();
+    private static volatile IBridge bridge;
+
+    private TestCrimson() {
+    }
+
+    public static CrimsonAPI install() {
+        if (CrimsonConstants.INSTANCE == null) {
+            CrimsonConstants.INSTANCE = (CrimsonAPI) Proxy.newProxyInstance(TestCrimson.class.getClassLoader(), new Class<?>[] { CrimsonAPI.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getJavaArguments":
+                        return javaArguments;
+                    case "getEventBus":
+                    case "getCrimsonEventBus":
+                        return eventBus;
+                    case "getRenderProfiler":
+                        return renderProfiler;
+                    case "getAnimationScheduler":
+                        return animationScheduler;
+                    case "getBridge":
+                        return bridge;
+                    default:
+                        return null;
+                }
+            });
+        }
+
+        return CrimsonConstants.INSTANCE;
+    }
+
+    /**
+     * Installs Crimson with the bridge given, which must be set before anything caches the bridge's parts.
+     */
+    public static CrimsonAPI install(IBridge bridge) {
+        TestCrimson.bridge = bridge;
+        return install();
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+package xyz.qalcyo.crimson.core.animation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EasingTypeTest {
+
+    private static final double EPSILON = 1e-9;
+    /* The most a table may be off by, the bounce curves' kinks are the worst case. */
+    private static final double TABLE_ERROR = 0.002;
+
+    @Test
+    public void curvesStartAndEndInPlace() {
+        for (EasingType type : EasingType.values()) {
+            assertEquals(0, type.ease(0), EPSILON, type.name());
+            assertEquals(1, type.ease(1), EPSILON, type.name());
+        }
+    }
+
+    @Test
+    public void curvesMatchKnownValues() {
+        assertEquals(0.5, EasingType.LINEAR.ease(0.5), EPSILON);
+        assertEquals(0.125, EasingType.IN_CUBIC.ease(0.5), EPSILON);
+        assertEquals(0.875, EasingType.OUT_CUBIC.ease(0.5), EPSILON);
+        assertEquals(0.5, EasingType.IN_OUT_SINE.ease(0.5), EPSILON);
+        assertEquals(0.03125, EasingType.IN_EXPO.ease(0.5), EPSILON);
+        assertEquals(0.96875, EasingType.OUT_EXPO.ease(0.5), EPSILON);
+        assertEquals(0.765625, EasingType.OUT_BOUNCE.ease(0.5), EPSILON);
+        /* The old implementation used 2^(-10t) with an integer t, so this curve never settled in between. */
+        assertEquals(Math.pow(2, -5) * Math.sin((5 - 0.75) * (2 * Math.PI) / 3) + 1, EasingType.OUT_ELASTIC.ease(0.5), EPSILON);
+    }
+
+    @Test
+    public void backCurvesOvershoot() {
+        assertTrue(EasingType.IN_BACK.ease(0.2) < 0);
+        assertTrue(EasingType.OUT_BACK.ease(0.8) > 1);
+    }
+
+    @Test
+    public void cheapCurvesAreNotTabulated() {
+        for (EasingType type : EasingType.values()) {
+            if (!type.isExpensive()) {
+                assertSame(type, type.tabulated(), type.name());
+            }
+        }
+    }
+
+    @Test
+    public void tablesStayCloseToTheCurves() {
+        for (EasingType type : EasingType.values()) {
+            Easing table = type.tabulated();
+            for (int i = 0; i <= 10000; i++) {
+                double t = i / 10000.0;
+                assertEquals(type.ease(t), table.ease(t), TABLE_ERROR, type.name() + " at " + t);
+            }
+        }
+    }
+
+    @Test
+    public void tablesClampProgress() {
+        Easing table = EasingType.OUT_ELASTIC.tabulated();
+        assertEquals(0, table.ease(-1), EPSILON);
+        assertEquals(1, table.ease(2), EPSILON);
+    }
+
+}
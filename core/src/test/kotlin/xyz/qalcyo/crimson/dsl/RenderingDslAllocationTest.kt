@@ -0,0 +1,166 @@
+/*
+ * Crimson - The ultimate Minecraft library mod
+ * Copyright (C) 2021 Qalcyo
+ *
+ * Crimson is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Crimson is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Crimson. If not, see <https://www.gnu.org/licenses/>.
+ */
+package xyz.qalcyo.crimson.dsl
+
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.Assumptions.assumeTrue
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.Test
+import xyz.qalcyo.crimson.core.AllocationCounter
+import xyz.qalcyo.crimson.core.TestCrimson
+import xyz.qalcyo.crimson.core.bridge.IBridge
+import xyz.qalcyo.crimson.core.bridge.crimson.ICommandBridge
+import xyz.qalcyo.crimson.core.bridge.crimson.IRenderingBridge
+import xyz.qalcyo.crimson.core.bridge.crimson.ISocketBridge
+import xyz.qalcyo.crimson.core.bridge.minecraft.IMinecraftBridge
+import xyz.qalcyo.crimson.core.data.PackedColour
+import xyz.qalcyo.crimson.core.rendering.IMesh
+import xyz.qalcyo.crimson.core.util.VertexFormats
+
+/**
+ * Checks that building vertices through the DSL doesn't allocate per vertex. Each [tessellate] call may
+ * still create it's scopes, so the allocations are compared against a small budget per call instead.
+ */
+class RenderingDslAllocationTest {
+
+    companion object {
+        private const val CALLS = 200
+        private const val VERTICES = 1000
+        private const val GL_QUADS = 7
+        /* More than a WorldRendererScope and it's VertexScope take, far less than a single object per vertex. */
+        private const val BYTES_PER_CALL = 128L
+
+        private val renderer = CountingRenderingBridge()
+
+        @JvmStatic
+        @BeforeAll
+        fun setup() {
+            TestCrimson.install(TestBridge(renderer))
+            assumeTrue(AllocationCounter.isSupported(), "Allocations can't be measured by this JVM.")
+        }
+    }
+
+    @Test
+    fun vertexFunctionsDoNotAllocatePerVertex() {
+        val allocated = AllocationCounter.measure(CALLS) {
+            tessellate(GL_QUADS, VertexFormats.POSITION_COLOR_TEXTURE) {
+                for (i in 0 until VERTICES) {
+                    vertex(i.toDouble(), 0.0, 0.0, 0.5, 0.5, -1)
+                }
+            }
+        }
+
+        assertTrue(allocated <= CALLS * BYTES_PER_CALL, "Allocated $allocated bytes for ${CALLS * VERTICES} vertices.")
+    }
+
+    @Test
+    fun vertexScopeDoesNotAllocatePerVertex() {
+        val allocated = AllocationCounter.measure(CALLS) {
+            tessellate(GL_QUADS, VertexFormats.POSITION_COLOR_TEXTURE) {
+                for (i in 0 until VERTICES) {
+                    vertex {
+                        pos(i.toDouble(), 0.0, 0.0)
+                        tex(0.5, 0.5)
+                        color(255, 255, 255)
+                    }
+                }
+            }
+        }
+
+        assertTrue(allocated <= CALLS * BYTES_PER_CALL, "Allocated $allocated bytes for ${CALLS * VERTICES} vertices.")
+    }
+
+    @Test
+    fun verticesReachTheRenderer() {
+        val vertices = renderer.vertices
+        val draws = renderer.draws
+        tessellate(GL_QUADS, VertexFormats.POSITION_COLOR) {
+            vertex { pos(0.0, 0.0, 0.0); color(-1) }
+            vertex(1.0, 0.0, 0.0, -1)
+            vertex(1.0, 1.0, 0.0, -1)
+            vertex(0.0, 1.0, 0.0, -1)
+        }
+
+        assertEquals(vertices + 4, renderer.vertices)
+        assertEquals(draws + 1, renderer.draws)
+        assertEquals(-1, renderer.lastColour)
+    }
+
+    @Test
+    fun outOfRangeChannelsAreClamped() {
+        tessellate(GL_QUADS, VertexFormats.POSITION_COLOR) {
+            vertex { pos(0.0, 0.0, 0.0); color(300, -20, 128, 255) }
+        }
+
+        assertEquals(PackedColour.argb(255, 0, 128, 255), renderer.lastColour)
+    }
+
+    private class TestBridge(private val renderingBridge: IRenderingBridge) : IBridge {
+        override fun initialize() {}
+        override fun getCommandBridge(): ICommandBridge? = null
+        override fun getSocketBridge(): ISocketBridge? = null
+        override fun getRenderingBridge() = renderingBridge
+        override fun getMinecraftBridge(): IMinecraftBridge? = null
+    }
+
+    /**
+     * Only keeps count of what it's given, without boxing anything passed through the primitive overloads.
+     */
+    private class CountingRenderingBridge : IRenderingBridge {
+        var vertices = 0
+        var draws = 0
+        var lastColour = 0
+        private var sum = 0.0
+
+        override fun initialize() {}
+        override fun draw() {
+            draws++
+        }
+        override fun begin(glMode: Int, vertexFormat: VertexFormats) {}
+        override fun end() {}
+        override fun nextVertex() {
+            vertices++
+        }
+
+        override fun pos(x: Number, y: Number, z: Number) = pos(x.toDouble(), y.toDouble(), z.toDouble())
+        override fun tex(u: Number, v: Number) = tex(u.toDouble(), v.toDouble())
+        override fun col(r: Int, g: Int, b: Int, a: Int) = col((a shl 24) or (r shl 16) or (g shl 8) or b)
+        override fun col(r: Float, g: Float, b: Float, a: Float) = col((r * 255).toInt(), (g * 255).toInt(), (b * 255).toInt(), (a * 255).toInt())
+
+        override fun pos(x: Double, y: Double, z: Double): IRenderingBridge {
+            sum += x + y + z
+            return this
+        }
+        override fun tex(u: Double, v: Double): IRenderingBridge {
+            sum += u + v
+            return this
+        }
+        override fun col(argb: Int): IRenderingBridge {
+            lastColour = argb
+            return this
+        }
+
+        override fun normal(x: Float, y: Float, z: Float) = this
+        override fun lightmap(sky: Int, block: Int) = this
+
+        override fun beginMesh(glMode: Int, vertexFormat: VertexFormats) = throw UnsupportedOperationException()
+        override fun endMesh(): IMesh = throw UnsupportedOperationException()
+    }
+
+}